@@ -0,0 +1,101 @@
+/**
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+
+package com.phonegap.plugin.mobileaccessibility;
+
+import org.apache.cordova.CallbackContext;
+import org.apache.cordova.PluginResult;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Announcements per second through the postNotification action, from the call to the result of each one,
+ * with the spacing between announcements turned off. While a screen reader runs the queue sends them one
+ * at a time, and otherwise in a single step of the UI thread.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class AnnouncementThroughputBenchmark {
+    private static final int BATCH = 100;
+
+    @Param({"true", "false"})
+    public boolean screenReaderRunning;
+
+    private BenchmarkFixture mFixture;
+    private JSONArray mArgs;
+    private volatile CountDownLatch mPending;
+    private final AtomicInteger mSuccessful = new AtomicInteger();
+    private CallbackContext mCallbackContext;
+
+    @Setup
+    public void setUp() throws JSONException {
+        mFixture = new BenchmarkFixture();
+        mFixture.fake.getAccessibilityManager().setScreenReaderRunning(screenReaderRunning);
+        mFixture.configure("announcementMinimumInterval", 0);
+        mFixture.configure("announcementCharacterDuration", 0);
+        mFixture.configure("announcementQueueDepth", BATCH);
+        mArgs = new JSONArray().put("MobileAccessibilityNotification").put("MobileAccessibilityBenchmark")
+                .put(AnnouncementQueue.QUEUE_MODE_QUEUE).put(0);
+        mCallbackContext = new CallbackContext("AnnouncementThroughputBenchmark", mFixture.fake.webView) {
+            @Override
+            public void sendPluginResult(PluginResult pluginResult) {
+                if ("true".equals(pluginResult.getMessage())) {
+                    mSuccessful.incrementAndGet();
+                }
+                mPending.countDown();
+            }
+        };
+    }
+
+    @TearDown
+    public void tearDown() {
+        mFixture.tearDown();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public int announce() throws JSONException, InterruptedException {
+        mPending = new CountDownLatch(BATCH);
+        for (int i = 0; i < BATCH; i++) {
+            mFixture.plugin.execute("postNotification", mArgs, mCallbackContext);
+        }
+        if (!mPending.await(10, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("Announcements were not completed: " + mPending.getCount() + " left");
+        }
+        return mSuccessful.get();
+    }
+}
@@ -0,0 +1,62 @@
+/**
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+
+package com.phonegap.plugin.mobileaccessibility;
+
+import com.phonegap.plugin.mobileaccessibility.fakes.FakeCordova;
+
+import org.apache.cordova.CallbackContext;
+import org.apache.cordova.PluginResult;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+/* A plugin instance initialized in a fake Cordova activity, and a callback context which discards its results. */
+final class BenchmarkFixture {
+    final FakeCordova fake = new FakeCordova();
+    final MobileAccessibility plugin = new MobileAccessibility();
+    final CallbackContext discard = new CallbackContext("MobileAccessibilityBenchmark", fake.webView) {
+        @Override
+        public void sendPluginResult(PluginResult pluginResult) {
+        }
+    };
+
+    BenchmarkFixture() {
+        fake.reset();
+        plugin.initialize(fake.cordova, fake.webView);
+    }
+
+    void configure(String option, Object value) throws JSONException {
+        JSONObject options = new JSONObject();
+        options.put(option, value);
+        plugin.execute("configure", new JSONArray().put(options), discard);
+    }
+
+    /* Subscribes to the status, which registers the state change listeners and answers queries from the cached state. */
+    void subscribe() throws JSONException {
+        plugin.execute("start", new JSONArray().put("MobileAccessibilityBenchmark"), discard);
+    }
+
+    void tearDown() {
+        plugin.onDestroy();
+        fake.reset();
+    }
+}
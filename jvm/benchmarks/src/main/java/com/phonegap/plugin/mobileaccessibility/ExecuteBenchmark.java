@@ -0,0 +1,80 @@
+/**
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+
+package com.phonegap.plugin.mobileaccessibility;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Dispatch of the execute calls answered on the calling thread, while a subscription keeps the state
+ * cached. Each call is recorded in the metrics and the journal of the instance, as it is on a device.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ExecuteBenchmark {
+    private final JSONArray mNoArgs = new JSONArray();
+    private BenchmarkFixture mFixture;
+    private EventJournal mJournal;
+
+    @Setup
+    public void setUp() throws JSONException {
+        mFixture = new BenchmarkFixture();
+        mFixture.fake.getAccessibilityManager().setScreenReaderRunning(true);
+        mFixture.subscribe();
+        mJournal = new EventJournal();
+    }
+
+    @TearDown
+    public void tearDown() {
+        mFixture.tearDown();
+    }
+
+    @Benchmark
+    public boolean executeUnknownAction() throws JSONException {
+        return mFixture.plugin.execute("benchmarkUnknownAction", mNoArgs, mFixture.discard);
+    }
+
+    @Benchmark
+    public boolean executeIsScreenReaderRunning() throws JSONException {
+        return mFixture.plugin.execute("isScreenReaderRunning", mNoArgs, mFixture.discard);
+    }
+
+    @Benchmark
+    public boolean executeUnavailableFlag() throws JSONException {
+        return mFixture.plugin.execute("isMonoAudioEnabled", mNoArgs, mFixture.discard);
+    }
+
+    @Benchmark
+    public void journalRecord() {
+        mJournal.record(EventJournal.TYPE_ACTION, 0, ActionHandler.THREAD_INLINE);
+    }
+}
@@ -0,0 +1,58 @@
+/**
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+
+package com.phonegap.plugin.mobileaccessibility;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+
+/**
+ * Runs the benchmarks with the JMH command line options, adding the GC profiler unless profilers are given,
+ * so that the allocation rate of each benchmark is reported along with its throughput.
+ */
+public final class MobileAccessibilityBenchmarks {
+    private MobileAccessibilityBenchmarks() {
+    }
+
+    public static void main(String[] args) throws CommandLineOptionException, IOException, RunnerException {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        if (commandLineOptions.shouldHelp()) {
+            commandLineOptions.showHelp();
+            return;
+        }
+        if (commandLineOptions.shouldList()) {
+            new Runner(commandLineOptions).list();
+            return;
+        }
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLineOptions);
+        if (commandLineOptions.getProfilers().isEmpty()) {
+            options.addProfiler(GCProfiler.class);
+        }
+        new Runner(options.build()).run();
+    }
+}
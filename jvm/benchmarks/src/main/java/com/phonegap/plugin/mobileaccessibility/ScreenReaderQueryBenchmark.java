@@ -0,0 +1,77 @@
+/**
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+
+package com.phonegap.plugin.mobileaccessibility;
+
+import android.accessibilityservice.AccessibilityServiceInfo;
+
+import com.phonegap.plugin.mobileaccessibility.fakes.FakeAccessibilityManager;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Whether a screen reader runs, from the list of enabled services the system builds on every call, against
+ * the service index the helper keeps while its state change listeners are registered.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ScreenReaderQueryBenchmark {
+    private BenchmarkFixture mFixture;
+    private FakeAccessibilityManager mAccessibilityManager;
+    private AbstractMobileAccessibilityHelper mHelper;
+
+    @Setup
+    public void setUp() {
+        mFixture = new BenchmarkFixture();
+        mAccessibilityManager = mFixture.fake.getAccessibilityManager();
+        mAccessibilityManager.setServiceEnabled("com.example.switchaccess", "com.example.switchaccess.SwitchAccessService",
+                AccessibilityServiceInfo.FEEDBACK_GENERIC, true);
+        mAccessibilityManager.setScreenReaderRunning(true);
+        mHelper = MobileAccessibility.createMobileAccessibilityHelper();
+        mHelper.initialize(mFixture.plugin);
+        mHelper.addStateChangeListeners();
+    }
+
+    @TearDown
+    public void tearDown() {
+        mHelper.removeStateChangeListeners();
+        mFixture.tearDown();
+    }
+
+    @Benchmark
+    public boolean screenReaderServiceList() {
+        return mAccessibilityManager.getEnabledAccessibilityServiceList(AccessibilityServiceInfo.FEEDBACK_SPOKEN).size() > 0;
+    }
+
+    @Benchmark
+    public boolean screenReaderServiceIndex() {
+        return mHelper.isScreenReaderRunning();
+    }
+}
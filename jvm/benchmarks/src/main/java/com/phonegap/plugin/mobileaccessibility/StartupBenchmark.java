@@ -0,0 +1,84 @@
+/**
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+
+package com.phonegap.plugin.mobileaccessibility;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Startup cost of the helper, which only resolves the view and the system services on first use, against
+ * resolving them eagerly as prewarm does, and of the initialization of a whole plugin instance.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class StartupBenchmark {
+    private BenchmarkFixture mFixture;
+
+    @Setup
+    public void setUp() {
+        mFixture = new BenchmarkFixture();
+    }
+
+    @TearDown
+    public void tearDown() {
+        mFixture.tearDown();
+    }
+
+    @Benchmark
+    public AbstractMobileAccessibilityHelper helperInitialize() {
+        AbstractMobileAccessibilityHelper helper = MobileAccessibility.createMobileAccessibilityHelper();
+        helper.initialize(mFixture.plugin);
+        return helper;
+    }
+
+    @Benchmark
+    public AbstractMobileAccessibilityHelper helperInitializeAndPrewarm() {
+        AbstractMobileAccessibilityHelper helper = MobileAccessibility.createMobileAccessibilityHelper();
+        helper.initialize(mFixture.plugin);
+        helper.prewarm();
+        return helper;
+    }
+
+    /* Destroyed in the same operation, as every instance registers its WebView in the process-wide registry. */
+    @Benchmark
+    public MobileAccessibility pluginInitializeAndDestroy() {
+        MobileAccessibility plugin = new MobileAccessibility();
+        plugin.initialize(mFixture.fake.cordova, mFixture.fake.webView);
+        plugin.onDestroy();
+        return plugin;
+    }
+}
@@ -0,0 +1,71 @@
+/**
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+
+package com.phonegap.plugin.mobileaccessibility;
+
+import org.apache.cordova.PluginResult;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/* Building the status sent to the subscriptions, as a JSON object or as the flags of the default status format. */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class StatusBenchmark {
+    private BenchmarkFixture mFixture;
+    private MobileAccessibilityState mState;
+
+    @Setup
+    public void setUp() {
+        mFixture = new BenchmarkFixture();
+        mState = MobileAccessibilityState.INITIAL
+                .with(MobileAccessibilityState.SCREEN_READER_RUNNING, true)
+                .with(MobileAccessibilityState.TOUCH_EXPLORATION_ENABLED, true);
+    }
+
+    @TearDown
+    public void tearDown() {
+        mFixture.tearDown();
+    }
+
+    @Benchmark
+    public JSONObject statusJson() {
+        return mFixture.plugin.getMobileAccessibilityStatus(mState);
+    }
+
+    @Benchmark
+    public PluginResult statusResultJson() {
+        return new PluginResult(PluginResult.Status.OK, mFixture.plugin.getMobileAccessibilityStatus(mState));
+    }
+
+    @Benchmark
+    public PluginResult statusResultFlags() {
+        return new PluginResult(PluginResult.Status.OK, mState.flags);
+    }
+}
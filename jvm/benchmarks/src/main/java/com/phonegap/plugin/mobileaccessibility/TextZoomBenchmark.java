@@ -0,0 +1,109 @@
+/**
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+
+package com.phonegap.plugin.mobileaccessibility;
+
+import android.content.Context;
+import android.view.View;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Method;
+
+/**
+ * Reading the text zoom by looking up the settings methods on every call, as the helpers did, against
+ * the WebSettingsAccessor resolved once per view. The engine view stands for a WebView which is not an
+ * android.webkit.WebView, such as Crosswalk's, which the accessor reaches through cached reflection.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class TextZoomBenchmark {
+    public static class EngineView extends View {
+        private final EngineSettings mSettings = new EngineSettings();
+
+        public EngineView(Context context) {
+            super(context);
+        }
+
+        public EngineSettings getSettings() {
+            return mSettings;
+        }
+    }
+
+    public static class EngineSettings {
+        private int mTextZoom = WebSettingsAccessor.DEFAULT_TEXT_ZOOM;
+
+        public int getTextZoom() {
+            return mTextZoom;
+        }
+
+        public void setTextZoom(int textZoom) {
+            mTextZoom = textZoom;
+        }
+    }
+
+    @Param({"webView", "engineView"})
+    public String view;
+
+    private BenchmarkFixture mFixture;
+    private View mView;
+    private WebSettingsAccessor mAccessor;
+
+    @Setup
+    public void setUp() {
+        mFixture = new BenchmarkFixture();
+        mView = "webView".equals(view) ? mFixture.fake.view : new EngineView(mFixture.fake.activity);
+        mAccessor = WebSettingsAccessor.forView(mView);
+    }
+
+    @TearDown
+    public void tearDown() {
+        mFixture.tearDown();
+    }
+
+    @Benchmark
+    public Object textZoomReflective() throws Exception {
+        Method getSettings = mView.getClass().getMethod("getSettings");
+        Object settings = getSettings.invoke(mView);
+        Method getTextZoom = settings.getClass().getMethod("getTextZoom");
+        return getTextZoom.invoke(settings);
+    }
+
+    @Benchmark
+    public int textZoomAccessorCold() {
+        return WebSettingsAccessor.forView(mView).getTextZoom();
+    }
+
+    @Benchmark
+    public int textZoomCached() {
+        return mAccessor.getTextZoom();
+    }
+}
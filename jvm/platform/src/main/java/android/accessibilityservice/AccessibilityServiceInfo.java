@@ -0,0 +1,49 @@
+/**
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+
+package android.accessibilityservice;
+
+import android.content.pm.ResolveInfo;
+
+public class AccessibilityServiceInfo {
+    public static final int FEEDBACK_SPOKEN = 0x0000001;
+    public static final int FEEDBACK_HAPTIC = 0x0000002;
+    public static final int FEEDBACK_AUDIBLE = 0x0000004;
+    public static final int FEEDBACK_VISUAL = 0x0000008;
+    public static final int FEEDBACK_GENERIC = 0x0000010;
+    public static final int FEEDBACK_BRAILLE = 0x0000020;
+    public static final int FEEDBACK_ALL_MASK = 0xFFFFFFFF;
+
+    public int feedbackType;
+
+    public ResolveInfo getResolveInfo() {
+        return null;
+    }
+
+    /* The flattened component name of the service, "package/class". */
+    public String getId() {
+        ResolveInfo resolveInfo = getResolveInfo();
+        if (resolveInfo == null || resolveInfo.serviceInfo == null) {
+            return "";
+        }
+        return resolveInfo.serviceInfo.packageName + "/" + resolveInfo.serviceInfo.name;
+    }
+}
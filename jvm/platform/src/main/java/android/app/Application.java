@@ -0,0 +1,60 @@
+/**
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+
+package android.app;
+
+import android.content.ComponentCallbacks;
+import android.content.Context;
+import android.content.res.Configuration;
+
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public abstract class Application extends Context implements ComponentCallbacks {
+    private final CopyOnWriteArrayList<ComponentCallbacks> mComponentCallbacks =
+            new CopyOnWriteArrayList<ComponentCallbacks>();
+
+    @Override
+    public Context getApplicationContext() {
+        return this;
+    }
+
+    @Override
+    public void registerComponentCallbacks(ComponentCallbacks callback) {
+        mComponentCallbacks.add(callback);
+    }
+
+    @Override
+    public void unregisterComponentCallbacks(ComponentCallbacks callback) {
+        mComponentCallbacks.remove(callback);
+    }
+
+    public void onConfigurationChanged(Configuration newConfig) {
+        for (ComponentCallbacks callback : mComponentCallbacks) {
+            callback.onConfigurationChanged(newConfig);
+        }
+    }
+
+    public void onLowMemory() {
+        for (ComponentCallbacks callback : mComponentCallbacks) {
+            callback.onLowMemory();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/**
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+
+package android.content;
+
+import android.database.ContentObserver;
+import android.net.Uri;
+
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Only the observer part of the platform class. As on a device, the observers registered through any
+ * resolver are notified of a change to a URI, whichever resolver it was made through.
+ */
+public class ContentResolver {
+    private static final class Registration {
+        final Uri uri;
+        final boolean notifyForDescendants;
+        final ContentObserver observer;
+
+        Registration(Uri uri, boolean notifyForDescendants, ContentObserver observer) {
+            this.uri = uri;
+            this.notifyForDescendants = notifyForDescendants;
+            this.observer = observer;
+        }
+
+        boolean matches(Uri changed) {
+            String prefix = uri.toString();
+            String path = changed.toString();
+            return path.equals(prefix) || (notifyForDescendants && path.startsWith(prefix + "/"));
+        }
+    }
+
+    private static final CopyOnWriteArrayList<Registration> sRegistrations = new CopyOnWriteArrayList<Registration>();
+
+    private final Context mContext;
+
+    public ContentResolver(Context context) {
+        mContext = context;
+    }
+
+    public final void registerContentObserver(Uri uri, boolean notifyForDescendants, ContentObserver observer) {
+        sRegistrations.add(new Registration(uri, notifyForDescendants, observer));
+    }
+
+    public final void unregisterContentObserver(ContentObserver observer) {
+        for (Registration registration : sRegistrations) {
+            if (registration.observer == observer) {
+                sRegistrations.remove(registration);
+            }
+        }
+    }
+
+    /* Notifies the observers on the calling thread, or on their handler, as a binder thread would. */
+    public void notifyChange(Uri uri, ContentObserver observer) {
+        for (Registration registration : sRegistrations) {
+            if (registration.matches(uri)
+                    && (registration.observer != observer || observer.deliverSelfNotifications())) {
+                registration.observer.dispatchChange(registration.observer == observer, uri);
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/**
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+
+package android.content;
+
+import android.content.res.Resources;
+import android.os.Looper;
+
+import java.io.File;
+
+public abstract class Context {
+    public static final String ACCESSIBILITY_SERVICE = "accessibility";
+    public static final String CAPTIONING_SERVICE = "captioning";
+    public static final int MODE_PRIVATE = 0;
+
+    public abstract Object getSystemService(String name);
+    public abstract String getPackageName();
+    public abstract Resources getResources();
+    public abstract Context getApplicationContext();
+    public abstract ContentResolver getContentResolver();
+    public abstract SharedPreferences getSharedPreferences(String name, int mode);
+    public abstract File getCacheDir();
+
+    public Looper getMainLooper() {
+        return Looper.getMainLooper();
+    }
+
+    public void registerComponentCallbacks(ComponentCallbacks callback) {
+        getApplicationContext().registerComponentCallbacks(callback);
+    }
+
+    public void unregisterComponentCallbacks(ComponentCallbacks callback) {
+        getApplicationContext().unregisterComponentCallbacks(callback);
+    }
+}
@@ -0,0 +1,44 @@
+/**
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+
+package android.content;
+
+public interface SharedPreferences {
+    interface Editor {
+        Editor putInt(String key, int value);
+        Editor putLong(String key, long value);
+        Editor putFloat(String key, float value);
+        Editor putBoolean(String key, boolean value);
+        Editor putString(String key, String value);
+        Editor remove(String key);
+        Editor clear();
+        boolean commit();
+        void apply();
+    }
+
+    int getInt(String key, int defValue);
+    long getLong(String key, long defValue);
+    float getFloat(String key, float defValue);
+    boolean getBoolean(String key, boolean defValue);
+    String getString(String key, String defValue);
+    boolean contains(String key);
+    Editor edit();
+}
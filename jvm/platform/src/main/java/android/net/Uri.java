@@ -0,0 +1,80 @@
+/**
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+
+package android.net;
+
+public abstract class Uri {
+    public static Uri parse(String uriString) {
+        return new StringUri(uriString);
+    }
+
+    public abstract String getScheme();
+    public abstract String getPath();
+    public abstract String getLastPathSegment();
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Uri && toString().equals(o.toString());
+    }
+
+    @Override
+    public int hashCode() {
+        return toString().hashCode();
+    }
+
+    private static final class StringUri extends Uri {
+        private final String mUriString;
+
+        StringUri(String uriString) {
+            mUriString = uriString;
+        }
+
+        @Override
+        public String getScheme() {
+            int colon = mUriString.indexOf(':');
+            return colon < 0 ? null : mUriString.substring(0, colon);
+        }
+
+        @Override
+        public String getPath() {
+            int start = mUriString.indexOf("://");
+            if (start < 0) {
+                return null;
+            }
+            int slash = mUriString.indexOf('/', start + 3);
+            return slash < 0 ? "" : mUriString.substring(slash);
+        }
+
+        @Override
+        public String getLastPathSegment() {
+            String path = getPath();
+            if (path == null || path.isEmpty()) {
+                return null;
+            }
+            return path.substring(path.lastIndexOf('/') + 1);
+        }
+
+        @Override
+        public String toString() {
+            return mUriString;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+/**
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+
+package android.os;
+
+public class Build {
+    public static class VERSION {
+        /**
+         * Not a constant as on a device, so that a JVM run can pick the helper of another version with the
+         * android.os.Build.VERSION.SDK_INT system property, or by setting it before the plugin is initialized.
+         */
+        public static int SDK_INT = Integer.getInteger("android.os.Build.VERSION.SDK_INT", VERSION_CODES.KITKAT);
+    }
+
+    public static class VERSION_CODES {
+        public static final int DONUT = 4;
+        public static final int GINGERBREAD = 9;
+        public static final int ICE_CREAM_SANDWICH = 14;
+        public static final int JELLY_BEAN = 16;
+        public static final int JELLY_BEAN_MR1 = 17;
+        public static final int KITKAT = 19;
+        public static final int LOLLIPOP = 21;
+        public static final int M = 23;
+    }
+}
@@ -0,0 +1,57 @@
+/**
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+
+package android.os;
+
+public class Handler {
+    private final Looper mLooper;
+
+    public Handler() {
+        this(Looper.myLooper());
+    }
+
+    public Handler(Looper looper) {
+        if (looper == null) {
+            throw new RuntimeException("Can't create handler inside thread that has not called Looper.prepare()");
+        }
+        mLooper = looper;
+    }
+
+    public final Looper getLooper() {
+        return mLooper;
+    }
+
+    public final boolean post(Runnable r) {
+        return postAtTime(r, SystemClock.uptimeMillis());
+    }
+
+    public final boolean postDelayed(Runnable r, long delayMillis) {
+        return postAtTime(r, SystemClock.uptimeMillis() + Math.max(0, delayMillis));
+    }
+
+    public final boolean postAtTime(Runnable r, long uptimeMillis) {
+        return mLooper.mQueue.enqueue(this, r, uptimeMillis);
+    }
+
+    public final void removeCallbacks(Runnable r) {
+        mLooper.mQueue.remove(this, r);
+    }
+}
@@ -0,0 +1,79 @@
+/**
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+
+package android.os;
+
+/* A daemon thread on the JVM, so that a looper which is never quit does not keep a test run alive. */
+public class HandlerThread extends Thread {
+    private final int mPriority;
+    private Looper mLooper;
+
+    public HandlerThread(String name) {
+        this(name, Process.THREAD_PRIORITY_DEFAULT);
+    }
+
+    public HandlerThread(String name, int priority) {
+        super(name);
+        mPriority = priority;
+        setDaemon(true);
+    }
+
+    protected void onLooperPrepared() {
+    }
+
+    @Override
+    public void run() {
+        Process.setThreadPriority(mPriority);
+        Looper.prepare();
+        synchronized (this) {
+            mLooper = Looper.myLooper();
+            notifyAll();
+        }
+        onLooperPrepared();
+        Looper.loop();
+    }
+
+    public Looper getLooper() {
+        if (!isAlive()) {
+            return null;
+        }
+        synchronized (this) {
+            while (isAlive() && mLooper == null) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return null;
+                }
+            }
+        }
+        return mLooper;
+    }
+
+    public boolean quit() {
+        Looper looper = getLooper();
+        if (looper != null) {
+            looper.quit();
+            return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,115 @@
+/**
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+
+package android.os;
+
+/**
+ * Runs the messages of a thread. On the JVM nothing calls prepareMainLooper, so the main looper is
+ * started on a daemon thread named "main" the first time it is asked for. An exception thrown by a
+ * message, which would crash an app, is passed to the uncaught exception handler of the thread and the
+ * loop goes on, so that a test can report it rather than time out.
+ */
+public final class Looper {
+    private static final ThreadLocal<Looper> sThreadLocal = new ThreadLocal<Looper>();
+    private static Looper sMainLooper;
+
+    final MessageQueue mQueue = new MessageQueue();
+    private final Thread mThread = Thread.currentThread();
+
+    private Looper() {
+    }
+
+    public static void prepare() {
+        if (sThreadLocal.get() != null) {
+            throw new RuntimeException("Only one Looper may be created per thread");
+        }
+        sThreadLocal.set(new Looper());
+    }
+
+    public static synchronized Looper getMainLooper() {
+        if (sMainLooper == null) {
+            Thread main = new Thread("main") {
+                @Override
+                public void run() {
+                    prepare();
+                    synchronized (Looper.class) {
+                        sMainLooper = myLooper();
+                        Looper.class.notifyAll();
+                    }
+                    loop();
+                }
+            };
+            main.setDaemon(true);
+            main.start();
+            while (sMainLooper == null) {
+                try {
+                    Looper.class.wait();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+        }
+        return sMainLooper;
+    }
+
+    public static Looper myLooper() {
+        return sThreadLocal.get();
+    }
+
+    public static void loop() {
+        Looper me = myLooper();
+        if (me == null) {
+            throw new RuntimeException("No Looper; Looper.prepare() wasn't called on this thread.");
+        }
+        while (true) {
+            MessageQueue.Message message = me.mQueue.next();
+            if (message == null) {
+                return;
+            }
+            try {
+                message.callback.run();
+            } catch (Throwable t) {
+                Thread thread = Thread.currentThread();
+                thread.getUncaughtExceptionHandler().uncaughtException(thread, t);
+            }
+        }
+    }
+
+    public Thread getThread() {
+        return mThread;
+    }
+
+    public MessageQueue getQueue() {
+        return mQueue;
+    }
+
+    public boolean isCurrentThread() {
+        return Thread.currentThread() == mThread;
+    }
+
+    public void quit() {
+        mQueue.quit();
+    }
+
+    public void quitSafely() {
+        mQueue.quit();
+    }
+}
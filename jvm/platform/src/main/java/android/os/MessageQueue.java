@@ -0,0 +1,109 @@
+/**
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+
+package android.os;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.PriorityQueue;
+
+/* The runnables posted to a looper, ordered by uptime and then by the order they were posted in. */
+public final class MessageQueue {
+    static final class Message {
+        final Handler target;
+        final Runnable callback;
+        final long when;
+        final long sequence;
+
+        Message(Handler target, Runnable callback, long when, long sequence) {
+            this.target = target;
+            this.callback = callback;
+            this.when = when;
+            this.sequence = sequence;
+        }
+    }
+
+    private static final Comparator<Message> ORDER = new Comparator<Message>() {
+        public int compare(Message a, Message b) {
+            if (a.when != b.when) {
+                return a.when < b.when ? -1 : 1;
+            }
+            return a.sequence < b.sequence ? -1 : (a.sequence == b.sequence ? 0 : 1);
+        }
+    };
+
+    private final PriorityQueue<Message> mMessages = new PriorityQueue<Message>(16, ORDER);
+    private long mSequence = 0;
+    private boolean mQuitting = false;
+
+    MessageQueue() {
+    }
+
+    synchronized boolean enqueue(Handler target, Runnable callback, long when) {
+        if (mQuitting) {
+            return false;
+        }
+        mMessages.add(new Message(target, callback, when, mSequence++));
+        notifyAll();
+        return true;
+    }
+
+    synchronized void remove(Handler target, Runnable callback) {
+        Iterator<Message> iterator = mMessages.iterator();
+        while (iterator.hasNext()) {
+            Message message = iterator.next();
+            if (message.target == target && (callback == null || message.callback == callback)) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /* Whether no message is due, which does not account for one being run. */
+    public synchronized boolean isIdle() {
+        Message head = mMessages.peek();
+        return head == null || head.when > SystemClock.uptimeMillis();
+    }
+
+    /* Blocks until a message is due, or returns null once the looper quits. */
+    synchronized Message next() {
+        while (true) {
+            if (mQuitting) {
+                return null;
+            }
+            Message head = mMessages.peek();
+            long delay = head == null ? 0 : head.when - SystemClock.uptimeMillis();
+            if (head != null && delay <= 0) {
+                return mMessages.poll();
+            }
+            try {
+                wait(delay);
+            } catch (InterruptedException e) {
+                return null;
+            }
+        }
+    }
+
+    synchronized void quit() {
+        mQuitting = true;
+        mMessages.clear();
+        notifyAll();
+    }
+}
@@ -0,0 +1,35 @@
+/**
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+
+package android.os;
+
+public class Process {
+    public static final int THREAD_PRIORITY_DEFAULT = 0;
+    public static final int THREAD_PRIORITY_BACKGROUND = 10;
+
+    /* The id of the calling JVM thread, which is not a kernel thread id. */
+    public static int myTid() {
+        return (int) Thread.currentThread().getId();
+    }
+
+    public static void setThreadPriority(int priority) {
+    }
+}
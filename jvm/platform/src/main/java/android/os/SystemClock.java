@@ -0,0 +1,50 @@
+/**
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+
+package android.os;
+
+/* The JVM has no notion of deep sleep, so uptime and elapsed realtime are the same monotonic clock. */
+public final class SystemClock {
+    private static final long ORIGIN = System.nanoTime();
+
+    private SystemClock() {
+    }
+
+    public static long uptimeMillis() {
+        return (System.nanoTime() - ORIGIN) / 1000000;
+    }
+
+    public static long elapsedRealtime() {
+        return uptimeMillis();
+    }
+
+    public static long elapsedRealtimeNanos() {
+        return System.nanoTime() - ORIGIN;
+    }
+
+    public static void sleep(long ms) {
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,161 @@
+/**
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+
+package android.provider;
+
+import android.content.ContentResolver;
+import android.net.Uri;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Settings tables kept in memory for the whole JVM, as they are system-wide on a device. Writing a
+ * setting notifies its observers through the resolver it was written with.
+ */
+public final class Settings {
+    private Settings() {
+    }
+
+    private static final class Table {
+        private final String mName;
+        private final ConcurrentHashMap<String, String> mValues = new ConcurrentHashMap<String, String>();
+
+        Table(String name) {
+            mName = name;
+        }
+
+        Uri getUriFor(String name) {
+            return Uri.parse("content://settings/" + mName + "/" + name);
+        }
+
+        String getString(String name) {
+            return mValues.get(name);
+        }
+
+        boolean putString(ContentResolver resolver, String name, String value) {
+            if (value == null) {
+                mValues.remove(name);
+            } else {
+                mValues.put(name, value);
+            }
+            resolver.notifyChange(getUriFor(name), null);
+            return true;
+        }
+
+        int getInt(String name, int def) {
+            String value = mValues.get(name);
+            try {
+                return value != null ? Integer.parseInt(value) : def;
+            } catch (NumberFormatException e) {
+                return def;
+            }
+        }
+
+        float getFloat(String name, float def) {
+            String value = mValues.get(name);
+            try {
+                return value != null ? Float.parseFloat(value) : def;
+            } catch (NumberFormatException e) {
+                return def;
+            }
+        }
+    }
+
+    public static final class Secure {
+        public static final String ENABLED_ACCESSIBILITY_SERVICES = "enabled_accessibility_services";
+        public static final String ACCESSIBILITY_DISPLAY_INVERSION_ENABLED = "accessibility_display_inversion_enabled";
+
+        private static final Table sTable = new Table("secure");
+
+        public static Uri getUriFor(String name) {
+            return sTable.getUriFor(name);
+        }
+
+        public static String getString(ContentResolver resolver, String name) {
+            return sTable.getString(name);
+        }
+
+        public static int getInt(ContentResolver resolver, String name, int def) {
+            return sTable.getInt(name, def);
+        }
+
+        public static float getFloat(ContentResolver resolver, String name, float def) {
+            return sTable.getFloat(name, def);
+        }
+
+        public static boolean putString(ContentResolver resolver, String name, String value) {
+            return sTable.putString(resolver, name, value);
+        }
+
+        public static boolean putInt(ContentResolver resolver, String name, int value) {
+            return sTable.putString(resolver, name, Integer.toString(value));
+        }
+
+        public static boolean putFloat(ContentResolver resolver, String name, float value) {
+            return sTable.putString(resolver, name, Float.toString(value));
+        }
+    }
+
+    public static final class Global {
+        public static final String ANIMATOR_DURATION_SCALE = "animator_duration_scale";
+        public static final String TRANSITION_ANIMATION_SCALE = "transition_animation_scale";
+
+        private static final Table sTable = new Table("global");
+
+        public static Uri getUriFor(String name) {
+            return sTable.getUriFor(name);
+        }
+
+        public static float getFloat(ContentResolver resolver, String name, float def) {
+            return sTable.getFloat(name, def);
+        }
+
+        public static boolean putString(ContentResolver resolver, String name, String value) {
+            return sTable.putString(resolver, name, value);
+        }
+
+        public static boolean putFloat(ContentResolver resolver, String name, float value) {
+            return sTable.putString(resolver, name, Float.toString(value));
+        }
+    }
+
+    public static final class System {
+        public static final String ANIMATOR_DURATION_SCALE = "animator_duration_scale";
+
+        private static final Table sTable = new Table("system");
+
+        public static Uri getUriFor(String name) {
+            return sTable.getUriFor(name);
+        }
+
+        public static float getFloat(ContentResolver resolver, String name, float def) {
+            return sTable.getFloat(name, def);
+        }
+
+        public static boolean putString(ContentResolver resolver, String name, String value) {
+            return sTable.putString(resolver, name, value);
+        }
+
+        public static boolean putFloat(ContentResolver resolver, String name, float value) {
+            return sTable.putString(resolver, name, Float.toString(value));
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/**
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+
+package android.view;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/* Runs the frame callbacks of a looper at the next boundary of a 60 Hz vsync, simulated from the uptime. */
+public final class Choreographer {
+    private static final long FRAME_INTERVAL_MILLIS = 16;
+    private static final ThreadLocal<Choreographer> sThreadInstance = new ThreadLocal<Choreographer>();
+
+    public interface FrameCallback {
+        void doFrame(long frameTimeNanos);
+    }
+
+    private final Handler mHandler;
+    private final ConcurrentHashMap<FrameCallback, Runnable> mPosted = new ConcurrentHashMap<FrameCallback, Runnable>();
+
+    private Choreographer(Looper looper) {
+        mHandler = new Handler(looper);
+    }
+
+    public static Choreographer getInstance() {
+        Choreographer choreographer = sThreadInstance.get();
+        if (choreographer == null) {
+            Looper looper = Looper.myLooper();
+            if (looper == null) {
+                throw new IllegalStateException("The current thread must have a looper!");
+            }
+            choreographer = new Choreographer(looper);
+            sThreadInstance.set(choreographer);
+        }
+        return choreographer;
+    }
+
+    public void postFrameCallback(final FrameCallback callback) {
+        Runnable frame = new Runnable() {
+            public void run() {
+                mPosted.remove(callback, this);
+                callback.doFrame(SystemClock.elapsedRealtimeNanos());
+            }
+        };
+        mPosted.put(callback, frame);
+        long now = SystemClock.uptimeMillis();
+        mHandler.postAtTime(frame, now - now % FRAME_INTERVAL_MILLIS + FRAME_INTERVAL_MILLIS);
+    }
+
+    public void removeFrameCallback(FrameCallback callback) {
+        Runnable frame = mPosted.remove(callback);
+        if (frame != null) {
+            mHandler.removeCallbacks(frame);
+        }
+    }
+}
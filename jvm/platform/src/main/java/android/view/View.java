@@ -0,0 +1,88 @@
+/**
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+
+package android.view;
+
+import android.content.Context;
+import android.os.Handler;
+import android.view.accessibility.AccessibilityEvent;
+import android.view.accessibility.AccessibilityManager;
+
+/* A view without layout or drawing, attached to at most one parent. */
+public class View {
+    private final Context mContext;
+    private volatile boolean mEnabled = true;
+    private volatile ViewParent mParent;
+
+    public View(Context context) {
+        mContext = context;
+    }
+
+    public final Context getContext() {
+        return mContext;
+    }
+
+    public boolean isEnabled() {
+        return mEnabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        mEnabled = enabled;
+    }
+
+    public final ViewParent getParent() {
+        return mParent;
+    }
+
+    /* Stands in for adding the view to a view group. */
+    public void assignParent(ViewParent parent) {
+        mParent = parent;
+    }
+
+    public ViewParent getParentForAccessibility() {
+        return mParent;
+    }
+
+    public void onInitializeAccessibilityEvent(AccessibilityEvent event) {
+        event.setSource(this);
+        event.setClassName(View.class.getName());
+        event.setPackageName(mContext.getPackageName());
+        event.setEnabled(isEnabled());
+        event.setContentDescription(null);
+    }
+
+    public void announceForAccessibility(CharSequence text) {
+        AccessibilityManager accessibilityManager =
+                (AccessibilityManager) mContext.getSystemService(Context.ACCESSIBILITY_SERVICE);
+        ViewParent parent = getParentForAccessibility();
+        if (accessibilityManager.isEnabled() && parent != null) {
+            AccessibilityEvent event = AccessibilityEvent.obtain(AccessibilityEvent.TYPE_ANNOUNCEMENT);
+            onInitializeAccessibilityEvent(event);
+            event.getText().add(text);
+            event.setContentDescription(null);
+            parent.requestSendAccessibilityEvent(this, event);
+        }
+    }
+
+    public boolean post(Runnable action) {
+        return new Handler(mContext.getMainLooper()).post(action);
+    }
+}
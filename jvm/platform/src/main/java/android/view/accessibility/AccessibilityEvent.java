@@ -0,0 +1,132 @@
+/**
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+
+package android.view.accessibility;
+
+import android.view.View;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/* Not pooled on the JVM: obtain always allocates and recycle only clears the event. */
+public final class AccessibilityEvent {
+    public static final int TYPE_VIEW_FOCUSED = 0x00000008;
+    public static final int TYPE_ANNOUNCEMENT = 0x00004000;
+
+    private int mEventType;
+    private final ArrayList<CharSequence> mText = new ArrayList<CharSequence>();
+    private boolean mEnabled;
+    private CharSequence mClassName;
+    private CharSequence mPackageName;
+    private CharSequence mContentDescription;
+    private View mSource;
+    private boolean mRecycled;
+
+    private AccessibilityEvent() {
+    }
+
+    public static AccessibilityEvent obtain() {
+        return new AccessibilityEvent();
+    }
+
+    public static AccessibilityEvent obtain(int eventType) {
+        AccessibilityEvent event = new AccessibilityEvent();
+        event.mEventType = eventType;
+        return event;
+    }
+
+    public static AccessibilityEvent obtain(AccessibilityEvent other) {
+        AccessibilityEvent event = new AccessibilityEvent();
+        event.mEventType = other.mEventType;
+        event.mText.addAll(other.mText);
+        event.mEnabled = other.mEnabled;
+        event.mClassName = other.mClassName;
+        event.mPackageName = other.mPackageName;
+        event.mContentDescription = other.mContentDescription;
+        event.mSource = other.mSource;
+        return event;
+    }
+
+    public int getEventType() {
+        return mEventType;
+    }
+
+    public void setEventType(int eventType) {
+        mEventType = eventType;
+    }
+
+    public List<CharSequence> getText() {
+        return mText;
+    }
+
+    public boolean isEnabled() {
+        return mEnabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        mEnabled = enabled;
+    }
+
+    public CharSequence getClassName() {
+        return mClassName;
+    }
+
+    public void setClassName(CharSequence className) {
+        mClassName = className;
+    }
+
+    public CharSequence getPackageName() {
+        return mPackageName;
+    }
+
+    public void setPackageName(CharSequence packageName) {
+        mPackageName = packageName;
+    }
+
+    public CharSequence getContentDescription() {
+        return mContentDescription;
+    }
+
+    public void setContentDescription(CharSequence contentDescription) {
+        mContentDescription = contentDescription;
+    }
+
+    public void setSource(View source) {
+        mSource = source;
+    }
+
+    /* Not a platform method: the view the event was initialized by. */
+    public View getSourceView() {
+        return mSource;
+    }
+
+    public void recycle() {
+        if (mRecycled) {
+            throw new IllegalStateException("Event already recycled!");
+        }
+        mRecycled = true;
+        mText.clear();
+        mClassName = null;
+        mPackageName = null;
+        mContentDescription = null;
+        mSource = null;
+    }
+}
@@ -0,0 +1,111 @@
+/**
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+
+package android.view.accessibility;
+
+import android.accessibilityservice.AccessibilityServiceInfo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Keeps the listeners like the platform class, with no accessibility service enabled. The constructor is
+ * public so that a fake system service can extend it and notify the listeners through the protected methods.
+ */
+public class AccessibilityManager {
+    public interface AccessibilityStateChangeListener {
+        void onAccessibilityStateChanged(boolean enabled);
+    }
+
+    public interface TouchExplorationStateChangeListener {
+        void onTouchExplorationStateChanged(boolean enabled);
+    }
+
+    private final CopyOnWriteArrayList<AccessibilityStateChangeListener> mAccessibilityStateChangeListeners =
+            new CopyOnWriteArrayList<AccessibilityStateChangeListener>();
+    private final CopyOnWriteArrayList<TouchExplorationStateChangeListener> mTouchExplorationStateChangeListeners =
+            new CopyOnWriteArrayList<TouchExplorationStateChangeListener>();
+
+    public AccessibilityManager() {
+    }
+
+    public boolean isEnabled() {
+        return false;
+    }
+
+    public boolean isTouchExplorationEnabled() {
+        return false;
+    }
+
+    public List<AccessibilityServiceInfo> getEnabledAccessibilityServiceList(int feedbackTypeFlags) {
+        return new ArrayList<AccessibilityServiceInfo>();
+    }
+
+    public void sendAccessibilityEvent(AccessibilityEvent event) {
+        if (!isEnabled()) {
+            throw new IllegalStateException("Accessibility off. Did you forget to check that?");
+        }
+    }
+
+    public void interrupt() {
+        if (!isEnabled()) {
+            throw new IllegalStateException("Accessibility off. Did you forget to check that?");
+        }
+    }
+
+    public boolean addAccessibilityStateChangeListener(AccessibilityStateChangeListener listener) {
+        return mAccessibilityStateChangeListeners.addIfAbsent(listener);
+    }
+
+    public boolean removeAccessibilityStateChangeListener(AccessibilityStateChangeListener listener) {
+        return mAccessibilityStateChangeListeners.remove(listener);
+    }
+
+    public boolean addTouchExplorationStateChangeListener(TouchExplorationStateChangeListener listener) {
+        return mTouchExplorationStateChangeListeners.addIfAbsent(listener);
+    }
+
+    public boolean removeTouchExplorationStateChangeListener(TouchExplorationStateChangeListener listener) {
+        return mTouchExplorationStateChangeListeners.remove(listener);
+    }
+
+    protected int getAccessibilityStateChangeListenerCount() {
+        return mAccessibilityStateChangeListeners.size();
+    }
+
+    protected int getTouchExplorationStateChangeListenerCount() {
+        return mTouchExplorationStateChangeListeners.size();
+    }
+
+    /* Calls the listeners on the calling thread. */
+    protected void notifyAccessibilityStateChanged(boolean enabled) {
+        for (AccessibilityStateChangeListener listener : mAccessibilityStateChangeListeners) {
+            listener.onAccessibilityStateChanged(enabled);
+        }
+    }
+
+    protected void notifyTouchExplorationStateChanged(boolean enabled) {
+        for (TouchExplorationStateChangeListener listener : mTouchExplorationStateChangeListeners) {
+            listener.onTouchExplorationStateChanged(enabled);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/**
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+
+package android.view.accessibility;
+
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/* Keeps the listeners like the platform class, with captions disabled. See AccessibilityManager. */
+public class CaptioningManager {
+    public abstract static class CaptioningChangeListener {
+        public void onEnabledChanged(boolean enabled) {
+        }
+
+        public void onFontScaleChanged(float fontScale) {
+        }
+    }
+
+    private final CopyOnWriteArrayList<CaptioningChangeListener> mListeners =
+            new CopyOnWriteArrayList<CaptioningChangeListener>();
+
+    public CaptioningManager() {
+    }
+
+    public boolean isEnabled() {
+        return false;
+    }
+
+    public void addCaptioningChangeListener(CaptioningChangeListener listener) {
+        mListeners.addIfAbsent(listener);
+    }
+
+    public void removeCaptioningChangeListener(CaptioningChangeListener listener) {
+        mListeners.remove(listener);
+    }
+
+    protected int getCaptioningChangeListenerCount() {
+        return mListeners.size();
+    }
+
+    /* Calls the listeners on the calling thread. */
+    protected void notifyEnabledChanged(boolean enabled) {
+        for (CaptioningChangeListener listener : mListeners) {
+            listener.onEnabledChanged(enabled);
+        }
+    }
+}
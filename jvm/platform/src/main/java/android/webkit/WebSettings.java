@@ -0,0 +1,57 @@
+/**
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+
+package android.webkit;
+
+public abstract class WebSettings {
+    public enum TextSize {
+        SMALLEST(50),
+        SMALLER(75),
+        NORMAL(100),
+        LARGER(150),
+        LARGEST(200);
+
+        TextSize(int size) {
+            value = size;
+        }
+
+        int value;
+    }
+
+    public abstract int getTextZoom();
+    public abstract void setTextZoom(int textZoom);
+
+    /* The text size is the text zoom, read back as the closest size. */
+    public TextSize getTextSize() {
+        int textZoom = getTextZoom();
+        TextSize closest = TextSize.NORMAL;
+        for (TextSize size : TextSize.values()) {
+            if (Math.abs(size.value - textZoom) < Math.abs(closest.value - textZoom)) {
+                closest = size;
+            }
+        }
+        return closest;
+    }
+
+    public void setTextSize(TextSize textSize) {
+        setTextZoom(textSize.value);
+    }
+}
@@ -0,0 +1,59 @@
+/**
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+
+package android.webkit;
+
+import android.content.Context;
+import android.view.View;
+
+/* A WebView without a page, which only keeps its text zoom. */
+public class WebView extends View {
+    /* Public, as the real settings class is reached reflectively by the plugin. */
+    public static class TextZoomSettings extends WebSettings {
+        private volatile int mTextZoom = 100;
+
+        @Override
+        public int getTextZoom() {
+            return mTextZoom;
+        }
+
+        @Override
+        public void setTextZoom(int textZoom) {
+            mTextZoom = textZoom;
+        }
+    }
+
+    private final WebSettings mSettings = new TextZoomSettings();
+
+    public WebView(Context context) {
+        super(context);
+    }
+
+    public WebSettings getSettings() {
+        return mSettings;
+    }
+
+    public void loadUrl(String url) {
+    }
+
+    public void reload() {
+    }
+}
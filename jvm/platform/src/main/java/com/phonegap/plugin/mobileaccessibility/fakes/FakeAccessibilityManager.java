@@ -0,0 +1,169 @@
+/**
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+
+package com.phonegap.plugin.mobileaccessibility.fakes;
+
+import android.accessibilityservice.AccessibilityServiceInfo;
+import android.content.pm.ResolveInfo;
+import android.content.pm.ServiceInfo;
+import android.view.accessibility.AccessibilityEvent;
+import android.view.accessibility.AccessibilityManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Accessibility manager whose enabled services and touch exploration are scripted. Accessibility is enabled
+ * while at least one service is. Each change notifies the listeners on the calling thread, under a lock of
+ * its kind, so that the listeners of one kind see the changes in order as they would on a device.
+ */
+public class FakeAccessibilityManager extends AccessibilityManager {
+    public static final String TALKBACK_PACKAGE = "com.google.android.marvin.talkback";
+    public static final String TALKBACK_SERVICE = "com.google.android.marvin.talkback.TalkBackService";
+
+    private final CopyOnWriteArrayList<AccessibilityServiceInfo> mServices =
+            new CopyOnWriteArrayList<AccessibilityServiceInfo>();
+    private final CopyOnWriteArrayList<AccessibilityEvent> mSentEvents = new CopyOnWriteArrayList<AccessibilityEvent>();
+    private final AtomicInteger mInterrupts = new AtomicInteger();
+    private final Object mServicesLock = new Object();
+    private final Object mTouchExplorationLock = new Object();
+    private volatile boolean mTouchExplorationEnabled = false;
+
+    public static AccessibilityServiceInfo createService(String packageName, String className, int feedbackType) {
+        ServiceInfo serviceInfo = new ServiceInfo();
+        serviceInfo.packageName = packageName;
+        serviceInfo.name = className;
+        final ResolveInfo resolveInfo = new ResolveInfo();
+        resolveInfo.serviceInfo = serviceInfo;
+        AccessibilityServiceInfo service = new AccessibilityServiceInfo() {
+            @Override
+            public ResolveInfo getResolveInfo() {
+                return resolveInfo;
+            }
+        };
+        service.feedbackType = feedbackType;
+        return service;
+    }
+
+    /* Enables or disables the service with this package and class, and notifies the accessibility state listeners. */
+    public void setServiceEnabled(String packageName, String className, int feedbackType, boolean enabled) {
+        synchronized (mServicesLock) {
+            String id = packageName + "/" + className;
+            AccessibilityServiceInfo existing = null;
+            for (AccessibilityServiceInfo service : mServices) {
+                if (service.getId().equals(id)) {
+                    existing = service;
+                }
+            }
+            if (enabled && existing == null) {
+                mServices.add(createService(packageName, className, feedbackType));
+            } else if (!enabled && existing != null) {
+                mServices.remove(existing);
+            } else {
+                return;
+            }
+            notifyAccessibilityStateChanged(isEnabled());
+        }
+    }
+
+    public void setScreenReaderRunning(boolean running) {
+        setServiceEnabled(TALKBACK_PACKAGE, TALKBACK_SERVICE, AccessibilityServiceInfo.FEEDBACK_SPOKEN, running);
+    }
+
+    public boolean isScreenReaderRunning() {
+        for (AccessibilityServiceInfo service : mServices) {
+            if ((service.feedbackType & (AccessibilityServiceInfo.FEEDBACK_SPOKEN | AccessibilityServiceInfo.FEEDBACK_BRAILLE)) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public void setTouchExplorationEnabled(boolean enabled) {
+        synchronized (mTouchExplorationLock) {
+            if (mTouchExplorationEnabled == enabled) {
+                return;
+            }
+            mTouchExplorationEnabled = enabled;
+            notifyTouchExplorationStateChanged(enabled);
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return !mServices.isEmpty();
+    }
+
+    @Override
+    public boolean isTouchExplorationEnabled() {
+        return mTouchExplorationEnabled;
+    }
+
+    @Override
+    public List<AccessibilityServiceInfo> getEnabledAccessibilityServiceList(int feedbackTypeFlags) {
+        ArrayList<AccessibilityServiceInfo> services = new ArrayList<AccessibilityServiceInfo>();
+        for (AccessibilityServiceInfo service : mServices) {
+            if ((service.feedbackType & feedbackTypeFlags) != 0) {
+                services.add(service);
+            }
+        }
+        return services;
+    }
+
+    @Override
+    public void sendAccessibilityEvent(AccessibilityEvent event) {
+        super.sendAccessibilityEvent(event);
+        mSentEvents.add(event);
+    }
+
+    @Override
+    public void interrupt() {
+        super.interrupt();
+        mInterrupts.incrementAndGet();
+    }
+
+    /* The events sent straight to the manager, as before Jelly Bean. */
+    public List<AccessibilityEvent> getSentEvents() {
+        return new ArrayList<AccessibilityEvent>(mSentEvents);
+    }
+
+    public int getInterruptCount() {
+        return mInterrupts.get();
+    }
+
+    public int getListenerCount() {
+        return getAccessibilityStateChangeListenerCount() + getTouchExplorationStateChangeListenerCount();
+    }
+
+    /* Disables everything without notifying the listeners, between runs. */
+    public void reset() {
+        synchronized (mServicesLock) {
+            mServices.clear();
+        }
+        synchronized (mTouchExplorationLock) {
+            mTouchExplorationEnabled = false;
+        }
+        mSentEvents.clear();
+        mInterrupts.set(0);
+    }
+}
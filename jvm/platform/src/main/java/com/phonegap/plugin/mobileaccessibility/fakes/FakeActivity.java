@@ -0,0 +1,74 @@
+/**
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+
+package com.phonegap.plugin.mobileaccessibility.fakes;
+
+import android.app.Activity;
+import android.app.Application;
+import android.content.ContentResolver;
+import android.content.SharedPreferences;
+import android.content.res.Resources;
+
+import java.io.File;
+
+/* An activity which resolves everything through its application. */
+public class FakeActivity extends Activity {
+    private final FakeApplication mApplication;
+
+    public FakeActivity(FakeApplication application) {
+        mApplication = application;
+    }
+
+    @Override
+    public Application getApplication() {
+        return mApplication;
+    }
+
+    @Override
+    public Object getSystemService(String name) {
+        return mApplication.getSystemService(name);
+    }
+
+    @Override
+    public String getPackageName() {
+        return mApplication.getPackageName();
+    }
+
+    @Override
+    public Resources getResources() {
+        return mApplication.getResources();
+    }
+
+    @Override
+    public ContentResolver getContentResolver() {
+        return mApplication.getContentResolver();
+    }
+
+    @Override
+    public SharedPreferences getSharedPreferences(String name, int mode) {
+        return mApplication.getSharedPreferences(name, mode);
+    }
+
+    @Override
+    public File getCacheDir() {
+        return mApplication.getCacheDir();
+    }
+}
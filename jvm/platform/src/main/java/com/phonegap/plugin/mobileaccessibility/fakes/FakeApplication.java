@@ -0,0 +1,127 @@
+/**
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+
+package com.phonegap.plugin.mobileaccessibility.fakes;
+
+import android.app.Application;
+import android.content.ContentResolver;
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.content.res.Configuration;
+import android.content.res.Resources;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/* The application context, with the fake system services, settings and preferences. */
+public class FakeApplication extends Application {
+    public static final String PACKAGE_NAME = "com.phonegap.plugin.mobileaccessibility.jvm";
+
+    private final FakeAccessibilityManager mAccessibilityManager = new FakeAccessibilityManager();
+    private final FakeCaptioningManager mCaptioningManager = new FakeCaptioningManager();
+    private final Resources mResources = new Resources();
+    private final ContentResolver mContentResolver = new ContentResolver(this);
+    private final ConcurrentHashMap<String, InMemorySharedPreferences> mPreferences =
+            new ConcurrentHashMap<String, InMemorySharedPreferences>();
+    private final File mCacheDir;
+
+    public FakeApplication() {
+        try {
+            mCacheDir = File.createTempFile("mobile-accessibility", "cache");
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        mCacheDir.delete();
+        mCacheDir.mkdirs();
+        mCacheDir.deleteOnExit();
+    }
+
+    public FakeAccessibilityManager getAccessibilityManager() {
+        return mAccessibilityManager;
+    }
+
+    public FakeCaptioningManager getCaptioningManager() {
+        return mCaptioningManager;
+    }
+
+    /* Changes the system font scale, notifying the registered component callbacks on the calling thread. */
+    public void setFontScale(float fontScale) {
+        Configuration configuration = new Configuration(mResources.getConfiguration());
+        configuration.fontScale = fontScale;
+        mResources.updateConfiguration(configuration);
+        onConfigurationChanged(configuration);
+    }
+
+    public InMemorySharedPreferences getPreferences(String name) {
+        InMemorySharedPreferences preferences = mPreferences.get(name);
+        if (preferences == null) {
+            mPreferences.putIfAbsent(name, new InMemorySharedPreferences());
+            preferences = mPreferences.get(name);
+        }
+        return preferences;
+    }
+
+    public void reset() {
+        mAccessibilityManager.reset();
+        mCaptioningManager.reset();
+        mResources.updateConfiguration(new Configuration());
+        for (InMemorySharedPreferences preferences : mPreferences.values()) {
+            preferences.clear();
+        }
+    }
+
+    @Override
+    public Object getSystemService(String name) {
+        if (Context.ACCESSIBILITY_SERVICE.equals(name)) {
+            return mAccessibilityManager;
+        }
+        if (Context.CAPTIONING_SERVICE.equals(name)) {
+            return mCaptioningManager;
+        }
+        return null;
+    }
+
+    @Override
+    public String getPackageName() {
+        return PACKAGE_NAME;
+    }
+
+    @Override
+    public Resources getResources() {
+        return mResources;
+    }
+
+    @Override
+    public ContentResolver getContentResolver() {
+        return mContentResolver;
+    }
+
+    @Override
+    public SharedPreferences getSharedPreferences(String name, int mode) {
+        return getPreferences(name);
+    }
+
+    @Override
+    public File getCacheDir() {
+        return mCacheDir;
+    }
+}
@@ -0,0 +1,52 @@
+/**
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+
+package com.phonegap.plugin.mobileaccessibility.fakes;
+
+import android.view.accessibility.CaptioningManager;
+
+/* Captioning manager whose enabled state is scripted, notifying the listeners like FakeAccessibilityManager. */
+public class FakeCaptioningManager extends CaptioningManager {
+    private volatile boolean mEnabled = false;
+
+    public void setEnabled(boolean enabled) {
+        synchronized (this) {
+            if (mEnabled == enabled) {
+                return;
+            }
+            mEnabled = enabled;
+            notifyEnabledChanged(enabled);
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return mEnabled;
+    }
+
+    public int getListenerCount() {
+        return getCaptioningChangeListenerCount();
+    }
+
+    public synchronized void reset() {
+        mEnabled = false;
+    }
+}
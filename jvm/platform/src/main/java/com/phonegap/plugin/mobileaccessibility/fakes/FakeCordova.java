@@ -0,0 +1,115 @@
+/**
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+
+package com.phonegap.plugin.mobileaccessibility.fakes;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A Cordova activity with its WebView, in the single fake application of the JVM, which the process-wide
+ * listener registry of the plugin keeps once it has seen it. Exceptions thrown on the main thread and the
+ * other threads are collected, so that a run can fail on them rather than time out.
+ */
+public class FakeCordova {
+    private static final FakeApplication sApplication = new FakeApplication();
+    private static final ArrayList<Throwable> sUncaughtExceptions = new ArrayList<Throwable>();
+
+    static {
+        Thread.setDefaultUncaughtExceptionHandler(new Thread.UncaughtExceptionHandler() {
+            public void uncaughtException(Thread thread, Throwable throwable) {
+                throwable.printStackTrace();
+                synchronized (sUncaughtExceptions) {
+                    sUncaughtExceptions.add(throwable);
+                }
+            }
+        });
+    }
+
+    public final FakeApplication application = sApplication;
+    public final FakeActivity activity = new FakeActivity(sApplication);
+    public final FakeCordovaInterface cordova = new FakeCordovaInterface(activity);
+    public final FakeWebView view = new FakeWebView(activity);
+    public final FakeCordovaWebView webView = new FakeCordovaWebView(view);
+    public final FakeSettings settings = new FakeSettings(sApplication.getContentResolver());
+
+    public static FakeApplication getApplication() {
+        return sApplication;
+    }
+
+    public FakeAccessibilityManager getAccessibilityManager() {
+        return sApplication.getAccessibilityManager();
+    }
+
+    public FakeCaptioningManager getCaptioningManager() {
+        return sApplication.getCaptioningManager();
+    }
+
+    public RecordingCallbackContext newCallbackContext(String callbackId) {
+        return new RecordingCallbackContext(callbackId, webView);
+    }
+
+    /* Restores the system services, settings and preferences, once no plugin listens to them any more. */
+    public void reset() {
+        sApplication.reset();
+        settings.reset();
+        synchronized (sUncaughtExceptions) {
+            sUncaughtExceptions.clear();
+        }
+    }
+
+    public static List<Throwable> getUncaughtExceptions() {
+        synchronized (sUncaughtExceptions) {
+            return new ArrayList<Throwable>(sUncaughtExceptions);
+        }
+    }
+
+    /* Runs the runnable on the main thread and waits for it. */
+    public static void runOnMainSync(Runnable runnable) throws InterruptedException {
+        final CountDownLatch done = new CountDownLatch(1);
+        final Runnable task = runnable;
+        new Handler(Looper.getMainLooper()).post(new Runnable() {
+            public void run() {
+                try {
+                    task.run();
+                } finally {
+                    done.countDown();
+                }
+            }
+        });
+        if (!done.await(10, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("The main thread did not run the runnable in time");
+        }
+    }
+
+    /* Waits for the messages which are due on the main thread to have run, without waiting for delayed ones. */
+    public static void idleMainLooper() throws InterruptedException {
+        runOnMainSync(new Runnable() {
+            public void run() {
+            }
+        });
+    }
+}
@@ -0,0 +1,57 @@
+/**
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+
+package com.phonegap.plugin.mobileaccessibility.fakes;
+
+import android.app.Activity;
+
+import org.apache.cordova.CordovaInterface;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/* Cordova's cached thread pool, on daemon threads. */
+public class FakeCordovaInterface implements CordovaInterface {
+    private final Activity mActivity;
+    private final ExecutorService mThreadPool = Executors.newCachedThreadPool(new ThreadFactory() {
+        private final AtomicInteger mCount = new AtomicInteger();
+
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "cordova-pool-" + mCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    });
+
+    public FakeCordovaInterface(Activity activity) {
+        mActivity = activity;
+    }
+
+    public Activity getActivity() {
+        return mActivity;
+    }
+
+    public ExecutorService getThreadPool() {
+        return mThreadPool;
+    }
+}
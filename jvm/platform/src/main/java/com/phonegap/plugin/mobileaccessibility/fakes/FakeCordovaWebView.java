@@ -0,0 +1,44 @@
+/**
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+
+package com.phonegap.plugin.mobileaccessibility.fakes;
+
+import android.view.View;
+
+import org.apache.cordova.CordovaWebView;
+import org.apache.cordova.PluginResult;
+
+/* The engine-independent Cordova WebView of cordova-android 4.0+, which the plugin resolves to its view by reflection. */
+public class FakeCordovaWebView implements CordovaWebView {
+    private final FakeWebView mView;
+
+    public FakeCordovaWebView(FakeWebView view) {
+        mView = view;
+    }
+
+    public View getView() {
+        return mView;
+    }
+
+    /* The results are kept by the callback contexts, see RecordingCallbackContext. */
+    public void sendPluginResult(PluginResult cr, String callbackId) {
+    }
+}
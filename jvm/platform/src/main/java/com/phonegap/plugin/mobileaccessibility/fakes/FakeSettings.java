@@ -0,0 +1,86 @@
+/**
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+
+package com.phonegap.plugin.mobileaccessibility.fakes;
+
+import android.content.ContentResolver;
+import android.os.Build;
+import android.provider.Settings;
+
+/**
+ * Writes the system settings behind the accessibility flags Android has no listener for. Each write notifies
+ * the content observers on the calling thread, as a binder thread would.
+ */
+public class FakeSettings {
+    public static final String HIGH_TEXT_CONTRAST_ENABLED = "high_text_contrast_enabled";
+    public static final String DISPLAY_INVERSION_ENABLED = "accessibility_display_inversion_enabled";
+    public static final String DISPLAY_DALTONIZER_ENABLED = "accessibility_display_daltonizer_enabled";
+    public static final String DISPLAY_DALTONIZER = "accessibility_display_daltonizer";
+    public static final String FONT_WEIGHT_ADJUSTMENT = "font_weight_adjustment";
+    /* The color correction mode rendering the display in shades of gray. */
+    public static final int DALTONIZER_SIMULATE_MONOCHROMACY = 0;
+    public static final int DALTONIZER_CORRECT_DEUTERANOMALY = 12;
+
+    private final ContentResolver mContentResolver;
+
+    public FakeSettings(ContentResolver contentResolver) {
+        mContentResolver = contentResolver;
+    }
+
+    public void setHighTextContrastEnabled(boolean enabled) {
+        Settings.Secure.putInt(mContentResolver, HIGH_TEXT_CONTRAST_ENABLED, enabled ? 1 : 0);
+    }
+
+    public void setInversionEnabled(boolean enabled) {
+        Settings.Secure.putInt(mContentResolver, DISPLAY_INVERSION_ENABLED, enabled ? 1 : 0);
+    }
+
+    public void setGrayscaleEnabled(boolean enabled) {
+        Settings.Secure.putInt(mContentResolver, DISPLAY_DALTONIZER, enabled
+                ? DALTONIZER_SIMULATE_MONOCHROMACY : DALTONIZER_CORRECT_DEUTERANOMALY);
+        Settings.Secure.putInt(mContentResolver, DISPLAY_DALTONIZER_ENABLED, enabled ? 1 : 0);
+    }
+
+    /* Removing animations sets their duration scale to 0. */
+    @SuppressWarnings("deprecation")
+    public void setAnimationsRemoved(boolean removed) {
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN_MR1) {
+            Settings.Global.putFloat(mContentResolver, Settings.Global.ANIMATOR_DURATION_SCALE, removed ? 0 : 1);
+        } else {
+            Settings.System.putFloat(mContentResolver, Settings.System.ANIMATOR_DURATION_SCALE, removed ? 0 : 1);
+        }
+    }
+
+    public void setFontWeightAdjustment(int adjustment) {
+        Settings.Secure.putInt(mContentResolver, FONT_WEIGHT_ADJUSTMENT, adjustment);
+    }
+
+    /* Restores every setting to its default, which notifies the observers still registered. */
+    public void reset() {
+        setHighTextContrastEnabled(false);
+        setInversionEnabled(false);
+        Settings.Secure.putString(mContentResolver, DISPLAY_DALTONIZER, null);
+        Settings.Secure.putInt(mContentResolver, DISPLAY_DALTONIZER_ENABLED, 0);
+        Settings.Global.putString(mContentResolver, Settings.Global.ANIMATOR_DURATION_SCALE, null);
+        Settings.System.putString(mContentResolver, Settings.System.ANIMATOR_DURATION_SCALE, null);
+        setFontWeightAdjustment(0);
+    }
+}
@@ -0,0 +1,111 @@
+/**
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+
+package com.phonegap.plugin.mobileaccessibility.fakes;
+
+import android.content.Context;
+import android.view.View;
+import android.view.ViewParent;
+import android.view.accessibility.AccessibilityEvent;
+import android.webkit.WebView;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A WebView attached to a parent which records the accessibility events it is asked to send, as the
+ * view root would send them to the accessibility manager, along with the URLs loaded and the reloads.
+ */
+public class FakeWebView extends WebView {
+    /* An accessibility event, with the thread which sent it. */
+    public static final class SentEvent {
+        public final AccessibilityEvent event;
+        public final String text;
+        public final Thread thread;
+
+        SentEvent(AccessibilityEvent event, Thread thread) {
+            this.event = event;
+            StringBuilder text = new StringBuilder();
+            for (CharSequence part : event.getText()) {
+                text.append(part);
+            }
+            this.text = text.toString();
+            this.thread = thread;
+        }
+    }
+
+    private final CopyOnWriteArrayList<SentEvent> mSentEvents = new CopyOnWriteArrayList<SentEvent>();
+    private final CopyOnWriteArrayList<String> mLoadedUrls = new CopyOnWriteArrayList<String>();
+    private final AtomicInteger mReloads = new AtomicInteger();
+
+    public FakeWebView(Context context) {
+        super(context);
+        assignParent(new ViewParent() {
+            public ViewParent getParent() {
+                return null;
+            }
+
+            public boolean requestSendAccessibilityEvent(View child, AccessibilityEvent event) {
+                synchronized (mSentEvents) {
+                    mSentEvents.add(new SentEvent(event, Thread.currentThread()));
+                    mSentEvents.notifyAll();
+                }
+                return true;
+            }
+        });
+    }
+
+    public List<SentEvent> getSentEvents() {
+        return new ArrayList<SentEvent>(mSentEvents);
+    }
+
+    /* Waits until at least count events were sent, and returns them. */
+    public List<SentEvent> awaitSentEvents(int count, long timeoutMillis) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        synchronized (mSentEvents) {
+            long remaining;
+            while (mSentEvents.size() < count && (remaining = deadline - System.currentTimeMillis()) > 0) {
+                mSentEvents.wait(remaining);
+            }
+        }
+        return getSentEvents();
+    }
+
+    public List<String> getLoadedUrls() {
+        return new ArrayList<String>(mLoadedUrls);
+    }
+
+    public int getReloadCount() {
+        return mReloads.get();
+    }
+
+    @Override
+    public void loadUrl(String url) {
+        mLoadedUrls.add(url);
+    }
+
+    @Override
+    public void reload() {
+        mReloads.incrementAndGet();
+    }
+}
@@ -0,0 +1,143 @@
+/**
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+
+package com.phonegap.plugin.mobileaccessibility.fakes;
+
+import android.content.SharedPreferences;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/* Shared preferences which are never written to disk. Each commit or apply is counted, with the thread it ran on. */
+public class InMemorySharedPreferences implements SharedPreferences {
+    private final ConcurrentHashMap<String, Object> mValues = new ConcurrentHashMap<String, Object>();
+    private final AtomicInteger mWrites = new AtomicInteger();
+    private volatile Thread mLastWriter;
+
+    public int getWriteCount() {
+        return mWrites.get();
+    }
+
+    public Thread getLastWriter() {
+        return mLastWriter;
+    }
+
+    public void clear() {
+        mValues.clear();
+        mWrites.set(0);
+        mLastWriter = null;
+    }
+
+    private Object get(String key, Object defValue) {
+        Object value = mValues.get(key);
+        return value != null ? value : defValue;
+    }
+
+    public int getInt(String key, int defValue) {
+        return (Integer) get(key, defValue);
+    }
+
+    public long getLong(String key, long defValue) {
+        return (Long) get(key, defValue);
+    }
+
+    public float getFloat(String key, float defValue) {
+        return (Float) get(key, defValue);
+    }
+
+    public boolean getBoolean(String key, boolean defValue) {
+        return (Boolean) get(key, defValue);
+    }
+
+    public String getString(String key, String defValue) {
+        return (String) get(key, defValue);
+    }
+
+    public boolean contains(String key) {
+        return mValues.containsKey(key);
+    }
+
+    public Editor edit() {
+        return new Editor() {
+            private final HashMap<String, Object> mChanges = new HashMap<String, Object>();
+            private boolean mClear = false;
+
+            public Editor putInt(String key, int value) {
+                mChanges.put(key, value);
+                return this;
+            }
+
+            public Editor putLong(String key, long value) {
+                mChanges.put(key, value);
+                return this;
+            }
+
+            public Editor putFloat(String key, float value) {
+                mChanges.put(key, value);
+                return this;
+            }
+
+            public Editor putBoolean(String key, boolean value) {
+                mChanges.put(key, value);
+                return this;
+            }
+
+            public Editor putString(String key, String value) {
+                mChanges.put(key, value);
+                return this;
+            }
+
+            public Editor remove(String key) {
+                mChanges.put(key, this);
+                return this;
+            }
+
+            public Editor clear() {
+                mClear = true;
+                return this;
+            }
+
+            public boolean commit() {
+                synchronized (InMemorySharedPreferences.this) {
+                    if (mClear) {
+                        mValues.clear();
+                    }
+                    for (Map.Entry<String, Object> change : mChanges.entrySet()) {
+                        if (change.getValue() == this || change.getValue() == null) {
+                            mValues.remove(change.getKey());
+                        } else {
+                            mValues.put(change.getKey(), change.getValue());
+                        }
+                    }
+                    mWrites.incrementAndGet();
+                    mLastWriter = Thread.currentThread();
+                }
+                return true;
+            }
+
+            public void apply() {
+                commit();
+            }
+        };
+    }
+}
@@ -0,0 +1,111 @@
+/**
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+
+package com.phonegap.plugin.mobileaccessibility.fakes;
+
+import org.apache.cordova.CallbackContext;
+import org.apache.cordova.CordovaWebView;
+import org.apache.cordova.PluginResult;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/* Records every result delivered to JavaScript, and counts those Cordova dropped after the callback finished. */
+public class RecordingCallbackContext extends CallbackContext {
+    public static final class Result {
+        public final int status;
+        public final String message;
+        public final boolean keepCallback;
+        public final Thread thread;
+        public final long nanoTime;
+
+        Result(PluginResult pluginResult, Thread thread, long nanoTime) {
+            this.status = pluginResult.getStatus();
+            this.message = pluginResult.getMessage();
+            this.keepCallback = pluginResult.getKeepCallback();
+            this.thread = thread;
+            this.nanoTime = nanoTime;
+        }
+
+        public boolean isOk() {
+            return status == PluginResult.Status.OK.ordinal();
+        }
+
+        @Override
+        public String toString() {
+            return PluginResult.Status.values()[status] + " " + message + (keepCallback ? " (kept)" : "");
+        }
+    }
+
+    private final ArrayList<Result> mResults = new ArrayList<Result>();
+    private int mDropped = 0;
+
+    public RecordingCallbackContext(String callbackId, CordovaWebView webView) {
+        super(callbackId, webView);
+    }
+
+    /* Called with each delivered result, before it is recorded. */
+    protected void onResult(Result result) {
+    }
+
+    @Override
+    public void sendPluginResult(PluginResult pluginResult) {
+        long now = System.nanoTime();
+        synchronized (this) {
+            if (isFinished()) {
+                mDropped++;
+                return;
+            }
+            super.sendPluginResult(pluginResult);
+            Result result = new Result(pluginResult, Thread.currentThread(), now);
+            onResult(result);
+            mResults.add(result);
+            notifyAll();
+        }
+    }
+
+    public synchronized List<Result> getResults() {
+        return new ArrayList<Result>(mResults);
+    }
+
+    public synchronized int getResultCount() {
+        return mResults.size();
+    }
+
+    public synchronized int getDroppedCount() {
+        return mDropped;
+    }
+
+    /* Waits until at least count results were delivered, and returns them. */
+    public synchronized List<Result> awaitResults(int count, long timeoutMillis) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        long remaining;
+        while (mResults.size() < count && (remaining = deadline - System.currentTimeMillis()) > 0) {
+            wait(remaining);
+        }
+        return getResults();
+    }
+
+    public synchronized Result awaitResult(long timeoutMillis) throws InterruptedException {
+        List<Result> results = awaitResults(1, timeoutMillis);
+        return results.isEmpty() ? null : results.get(results.size() - 1);
+    }
+}
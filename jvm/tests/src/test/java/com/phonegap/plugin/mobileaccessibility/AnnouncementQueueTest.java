@@ -0,0 +1,271 @@
+/**
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+
+
+package com.phonegap.plugin.mobileaccessibility;
+
+import com.phonegap.plugin.mobileaccessibility.fakes.FakeCordova;
+import com.phonegap.plugin.mobileaccessibility.fakes.FakeWebView;
+import com.phonegap.plugin.mobileaccessibility.fakes.RecordingCallbackContext;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/* Checks what the announcement queue delivers to the WebView and to the callbacks of postNotification. */
+public class AnnouncementQueueTest {
+    private static final int ANNOUNCEMENT = 1008;
+    private static final long TIMEOUT_MILLIS = 5000;
+    /* Long enough for the announcements posted meanwhile to be queued rather than sent at once. */
+    private static final long SLOW_INTERVAL_MILLIS = 300;
+
+    private FakeCordova mFake;
+    private MobileAccessibility mPlugin;
+
+    @Before
+    public void setUp() throws JSONException {
+        mFake = new FakeCordova();
+        mFake.reset();
+        mPlugin = new MobileAccessibility();
+        mPlugin.initialize(mFake.cordova, mFake.webView);
+        configure(new JSONObject()
+                .put("announcementMinimumInterval", 0)
+                .put("announcementCharacterDuration", 0));
+    }
+
+    @After
+    public void tearDown() {
+        mPlugin.onDestroy();
+        mFake.reset();
+    }
+
+    @Test
+    public void announcementsAreSentInOrderOnTheMainThread() throws Exception {
+        mFake.getAccessibilityManager().setScreenReaderRunning(true);
+        List<RecordingCallbackContext> callbacks = new ArrayList<RecordingCallbackContext>();
+        for (int i = 0; i < 5; i++) {
+            callbacks.add(post("Announcement " + i, AnnouncementQueue.QUEUE_MODE_QUEUE, 0));
+        }
+        assertResults(callbacks, "true");
+
+        List<FakeWebView.SentEvent> events = mFake.view.getSentEvents();
+        assertEquals(5, events.size());
+        for (int i = 0; i < events.size(); i++) {
+            assertEquals("Announcement " + i, events.get(i).text);
+            assertEquals("main", events.get(i).thread.getName());
+        }
+        assertTrue(FakeCordova.getUncaughtExceptions().isEmpty());
+    }
+
+    @Test
+    public void announcementsFailWithoutScreenReader() throws Exception {
+        List<RecordingCallbackContext> callbacks = new ArrayList<RecordingCallbackContext>();
+        for (int i = 0; i < 3; i++) {
+            callbacks.add(post("Announcement " + i, AnnouncementQueue.QUEUE_MODE_QUEUE, 0));
+        }
+        assertResults(callbacks, "false");
+        assertTrue(mFake.view.getSentEvents().isEmpty());
+    }
+
+    @Test
+    public void trimmedAndTruncatedAtWordBoundary() throws Exception {
+        mFake.getAccessibilityManager().setScreenReaderRunning(true);
+        configure(new JSONObject().put("announcementMaxLength", 12));
+        RecordingCallbackContext callback = post("  Saved the draft of the message  ", AnnouncementQueue.QUEUE_MODE_QUEUE, 0);
+        assertResult(callback, "true");
+        assertEquals(list("Saved the"), texts(mFake.view.getSentEvents()));
+    }
+
+    @Test
+    public void higherPriorityIsSentFirst() throws Exception {
+        mFake.getAccessibilityManager().setScreenReaderRunning(true);
+        configure(new JSONObject().put("announcementMinimumInterval", SLOW_INTERVAL_MILLIS));
+        RecordingCallbackContext first = post("First", AnnouncementQueue.QUEUE_MODE_QUEUE, 0);
+        mFake.view.awaitSentEvents(1, TIMEOUT_MILLIS);
+        RecordingCallbackContext low = post("Low", AnnouncementQueue.QUEUE_MODE_QUEUE, 0);
+        RecordingCallbackContext high = post("High", AnnouncementQueue.QUEUE_MODE_QUEUE, 5);
+        assertResults(list(first, low, high), "true");
+        assertEquals(list("First", "High", "Low"), texts(mFake.view.getSentEvents()));
+    }
+
+    @Test
+    public void flushDropsPendingAnnouncementsAndInterrupts() throws Exception {
+        mFake.getAccessibilityManager().setScreenReaderRunning(true);
+        configure(new JSONObject().put("announcementMinimumInterval", SLOW_INTERVAL_MILLIS));
+        RecordingCallbackContext first = post("First", AnnouncementQueue.QUEUE_MODE_QUEUE, 0);
+        mFake.view.awaitSentEvents(1, TIMEOUT_MILLIS);
+        RecordingCallbackContext second = post("Second", AnnouncementQueue.QUEUE_MODE_QUEUE, 0);
+        RecordingCallbackContext third = post("Third", AnnouncementQueue.QUEUE_MODE_QUEUE, 0);
+        RecordingCallbackContext flush = post("Flush", AnnouncementQueue.QUEUE_MODE_FLUSH, 0);
+
+        assertResults(list(second, third), "false");
+        assertResults(list(first, flush), "true");
+        assertEquals(list("First", "Flush"), texts(mFake.view.getSentEvents()));
+        assertEquals(1, mFake.getAccessibilityManager().getInterruptCount());
+    }
+
+    @Test
+    public void overflowDropsOldest() throws Exception {
+        mFake.getAccessibilityManager().setScreenReaderRunning(true);
+        configure(new JSONObject()
+                .put("announcementMinimumInterval", SLOW_INTERVAL_MILLIS)
+                .put("announcementQueueDepth", 2)
+                .put("announcementOverflowPolicy", AnnouncementQueue.OVERFLOW_DROP_OLDEST));
+        RecordingCallbackContext first = post("First", AnnouncementQueue.QUEUE_MODE_QUEUE, 0);
+        mFake.view.awaitSentEvents(1, TIMEOUT_MILLIS);
+        RecordingCallbackContext a = post("A", AnnouncementQueue.QUEUE_MODE_QUEUE, 0);
+        RecordingCallbackContext b = post("B", AnnouncementQueue.QUEUE_MODE_QUEUE, 0);
+        RecordingCallbackContext c = post("C", AnnouncementQueue.QUEUE_MODE_QUEUE, 0);
+
+        assertResult(a, "false");
+        assertResults(list(first, b, c), "true");
+        assertEquals(list("First", "B", "C"), texts(mFake.view.getSentEvents()));
+    }
+
+    @Test
+    public void overflowMergesIntoOneAnnouncement() throws Exception {
+        mFake.getAccessibilityManager().setScreenReaderRunning(true);
+        configure(new JSONObject()
+                .put("announcementMinimumInterval", SLOW_INTERVAL_MILLIS)
+                .put("announcementQueueDepth", 2)
+                .put("announcementOverflowPolicy", AnnouncementQueue.OVERFLOW_MERGE));
+        RecordingCallbackContext first = post("First", AnnouncementQueue.QUEUE_MODE_QUEUE, 0);
+        mFake.view.awaitSentEvents(1, TIMEOUT_MILLIS);
+        RecordingCallbackContext a = post("A", AnnouncementQueue.QUEUE_MODE_QUEUE, 0);
+        RecordingCallbackContext b = post("B", AnnouncementQueue.QUEUE_MODE_QUEUE, 0);
+        RecordingCallbackContext c = post("C", AnnouncementQueue.QUEUE_MODE_QUEUE, 0);
+
+        assertResults(list(first, a, b, c), "true");
+        assertEquals(list("First", "A B", "C"), texts(mFake.view.getSentEvents()));
+    }
+
+    @Test
+    public void concurrentAnnouncementsCompleteOnce() throws Exception {
+        mFake.getAccessibilityManager().setScreenReaderRunning(true);
+        final int threadCount = 4;
+        final int perThread = 50;
+        configure(new JSONObject().put("announcementQueueDepth", threadCount * perThread));
+        final List<RecordingCallbackContext> callbacks = new ArrayList<RecordingCallbackContext>();
+        final CountDownLatch start = new CountDownLatch(1);
+        Thread[] threads = new Thread[threadCount];
+        for (int i = 0; i < threadCount; i++) {
+            final int thread = i;
+            threads[i] = new Thread("AnnouncementQueueTest-" + i) {
+                @Override
+                public void run() {
+                    try {
+                        start.await();
+                        for (int j = 0; j < perThread; j++) {
+                            RecordingCallbackContext callback = mFake.newCallbackContext("post" + thread + "." + j);
+                            synchronized (callbacks) {
+                                callbacks.add(callback);
+                            }
+                            post("Announcement " + thread + "." + j, callback);
+                        }
+                    } catch (Exception e) {
+                        throw new RuntimeException(e);
+                    }
+                }
+            };
+            threads[i].start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertResults(callbacks, "true");
+        for (RecordingCallbackContext callback : callbacks) {
+            assertEquals(0, callback.getDroppedCount());
+        }
+        assertEquals(threadCount * perThread, mFake.view.getSentEvents().size());
+        assertTrue(FakeCordova.getUncaughtExceptions().isEmpty());
+    }
+
+    @Test
+    public void jsonResultsCarryTheText() throws Exception {
+        mFake.getAccessibilityManager().setScreenReaderRunning(true);
+        configure(new JSONObject().put("statusFormat", "json"));
+        RecordingCallbackContext callback = post("Hello", AnnouncementQueue.QUEUE_MODE_QUEUE, 0);
+        RecordingCallbackContext.Result result = callback.awaitResult(TIMEOUT_MILLIS);
+        JSONObject info = new JSONObject(result.message);
+        assertEquals("Hello", info.getString("stringValue"));
+        assertTrue(info.getBoolean("wasSuccessful"));
+    }
+
+    private void configure(JSONObject options) throws JSONException {
+        mPlugin.execute("configure", new JSONArray().put(options), mFake.newCallbackContext("configure"));
+    }
+
+    private RecordingCallbackContext post(String text, int queueMode, int priority) throws JSONException {
+        RecordingCallbackContext callback = mFake.newCallbackContext("postNotification");
+        mPlugin.execute("postNotification", new JSONArray().put(ANNOUNCEMENT).put(text).put(queueMode).put(priority),
+                callback);
+        return callback;
+    }
+
+    private void post(String text, RecordingCallbackContext callback) throws JSONException {
+        mPlugin.execute("postNotification", new JSONArray().put(ANNOUNCEMENT).put(text), callback);
+    }
+
+    /* Each callback receives exactly one OK result with this message. */
+    private static void assertResults(List<RecordingCallbackContext> callbacks, String message)
+            throws InterruptedException {
+        for (RecordingCallbackContext callback : callbacks) {
+            assertResult(callback, message);
+        }
+    }
+
+    private static void assertResult(RecordingCallbackContext callback, String message) throws InterruptedException {
+        RecordingCallbackContext.Result result = callback.awaitResult(TIMEOUT_MILLIS);
+        assertTrue("No result", result != null);
+        assertTrue(result.toString(), result.isOk());
+        assertEquals(message, result.message);
+        assertEquals(1, callback.getResultCount());
+    }
+
+    private static List<String> texts(List<FakeWebView.SentEvent> events) {
+        List<String> texts = new ArrayList<String>();
+        for (FakeWebView.SentEvent event : events) {
+            texts.add(event.text);
+        }
+        return texts;
+    }
+
+    @SafeVarargs
+    private static <T> List<T> list(T... items) {
+        List<T> list = new ArrayList<T>();
+        for (T item : items) {
+            list.add(item);
+        }
+        return list;
+    }
+}
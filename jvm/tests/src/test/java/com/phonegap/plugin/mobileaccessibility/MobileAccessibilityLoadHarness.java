@@ -0,0 +1,364 @@
+/**
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+
+
+package com.phonegap.plugin.mobileaccessibility;
+
+import com.phonegap.plugin.mobileaccessibility.fakes.FakeCordova;
+import com.phonegap.plugin.mobileaccessibility.fakes.RecordingCallbackContext;
+
+import org.apache.cordova.CallbackContext;
+import org.apache.cordova.PluginResult;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Load and regression test of the status event path. A plugin instance in a fake Cordova activity subscribes
+ * to the status, while several threads change the accessibility state through the fake system services and
+ * settings, generated or replayed from a trace. The status events delivered to the subscription are checked
+ * for consistency and timed.
+ */
+final class MobileAccessibilityLoadHarness {
+    static final int DEFAULT_THREADS = 4;
+    static final int DEFAULT_EVENTS_PER_THREAD = 1000;
+    /* Time allowed for the last events to be delivered once every change has been made. */
+    static final long SETTLE_TIMEOUT_MILLIS = 2000;
+
+    private static final String SUBSCRIPTION_ID = "loadHarness";
+    static final int[] FLAGS = {
+        MobileAccessibilityState.SCREEN_READER_RUNNING,
+        MobileAccessibilityState.CLOSED_CAPTIONING_ENABLED,
+        MobileAccessibilityState.TOUCH_EXPLORATION_ENABLED,
+        MobileAccessibilityState.HIGH_CONTRAST_ENABLED,
+        MobileAccessibilityState.INVERT_COLORS_ENABLED,
+        MobileAccessibilityState.GRAYSCALE_ENABLED,
+        MobileAccessibilityState.REDUCE_MOTION_ENABLED
+    };
+    /* Names of the flags in a trace, matching the keys of the status object. */
+    static final String[] FLAG_NAMES = {
+        "isScreenReaderRunning",
+        "isClosedCaptioningEnabled",
+        "isTouchExplorationEnabled",
+        "isHighContrastEnabled",
+        "isInvertColorsEnabled",
+        "isGrayscaleEnabled",
+        "isReduceMotionEnabled"
+    };
+    static final int SCRIPTED_FLAGS;
+
+    static {
+        int flags = 0;
+        for (int flag : FLAGS) {
+            flags |= flag;
+        }
+        SCRIPTED_FLAGS = flags;
+    }
+
+    /**
+     * Records the status events delivered to the subscription, and the time since the first change which
+     * had not been delivered yet.
+     */
+    private static final class LatencyCallbackContext extends RecordingCallbackContext {
+        final AtomicLong pendingSince = new AtomicLong();
+        final LatencyHistogram latency = new LatencyHistogram();
+
+        LatencyCallbackContext(FakeCordova fake) {
+            super("MobileAccessibilityLoadHarness", fake.webView);
+        }
+
+        /* Called by the injecting threads before each change. */
+        void onChange() {
+            pendingSince.compareAndSet(0, System.nanoTime());
+        }
+
+        @Override
+        protected void onResult(Result result) {
+            long since = pendingSince.getAndSet(0);
+            if (since != 0) {
+                latency.record(result.nanoTime - since);
+            }
+        }
+
+        int[] getDelivered() {
+            List<Result> results = getResults();
+            int[] delivered = new int[results.size()];
+            for (int i = 0; i < delivered.length; i++) {
+                delivered[i] = Integer.parseInt(results.get(i).message) & SCRIPTED_FLAGS;
+            }
+            return delivered;
+        }
+    }
+
+    /* Sets the flags through the system services and settings, each flag under its own lock like a system listener. */
+    private static final class Injector {
+        private final FakeCordova mFake;
+        private final Object[] mLocks = new Object[FLAGS.length];
+
+        Injector(FakeCordova fake) {
+            mFake = fake;
+            for (int i = 0; i < mLocks.length; i++) {
+                mLocks[i] = new Object();
+            }
+        }
+
+        void set(int index, boolean enabled) {
+            synchronized (mLocks[index]) {
+                switch (FLAGS[index]) {
+                case MobileAccessibilityState.SCREEN_READER_RUNNING:
+                    mFake.getAccessibilityManager().setScreenReaderRunning(enabled);
+                    break;
+                case MobileAccessibilityState.CLOSED_CAPTIONING_ENABLED:
+                    mFake.getCaptioningManager().setEnabled(enabled);
+                    break;
+                case MobileAccessibilityState.TOUCH_EXPLORATION_ENABLED:
+                    mFake.getAccessibilityManager().setTouchExplorationEnabled(enabled);
+                    break;
+                case MobileAccessibilityState.HIGH_CONTRAST_ENABLED:
+                    mFake.settings.setHighTextContrastEnabled(enabled);
+                    break;
+                case MobileAccessibilityState.INVERT_COLORS_ENABLED:
+                    mFake.settings.setInversionEnabled(enabled);
+                    break;
+                case MobileAccessibilityState.GRAYSCALE_ENABLED:
+                    mFake.settings.setGrayscaleEnabled(enabled);
+                    break;
+                case MobileAccessibilityState.REDUCE_MOTION_ENABLED:
+                    mFake.settings.setAnimationsRemoved(enabled);
+                    break;
+                }
+            }
+        }
+
+        /* The scripted flags as the system reports them. */
+        int getFlags() {
+            int flags = AccessibilityListenerRegistry.getInstance(mFake.activity).readSettingsFlags();
+            if (mFake.getAccessibilityManager().isScreenReaderRunning()) {
+                flags |= MobileAccessibilityState.SCREEN_READER_RUNNING;
+            }
+            if (mFake.getCaptioningManager().isEnabled()) {
+                flags |= MobileAccessibilityState.CLOSED_CAPTIONING_ENABLED;
+            }
+            if (mFake.getAccessibilityManager().isTouchExplorationEnabled()) {
+                flags |= MobileAccessibilityState.TOUCH_EXPLORATION_ENABLED;
+            }
+            return flags & SCRIPTED_FLAGS;
+        }
+    }
+
+    private MobileAccessibilityLoadHarness() {
+    }
+
+    /**
+     * Runs the harness with these options, all optional: threads, eventsPerThread, rate (changes per second
+     * and thread, 0 for no limit), seed, statusCoalescingWindow, and trace, an array of [flag name, enabled]
+     * pairs which every thread replays in place of generated changes. With a single thread, the delivered
+     * states must also appear in the order the changes were made.
+     */
+    static JSONObject run(FakeCordova fake, JSONObject options) throws JSONException, InterruptedException {
+        final int threadCount = Math.max(1, options.optInt("threads", DEFAULT_THREADS));
+        final int eventsPerThread = Math.max(0, options.optInt("eventsPerThread", DEFAULT_EVENTS_PER_THREAD));
+        final double rate = options.optDouble("rate", 0);
+        final long seed = options.optLong("seed", System.nanoTime());
+        final int[][] trace = parseTrace(options.optJSONArray("trace"));
+        final int count = trace != null ? trace.length : eventsPerThread;
+
+        final Injector injector = new Injector(fake);
+        MobileAccessibility plugin = new MobileAccessibility();
+        plugin.initialize(fake.cordova, fake.webView);
+        final LatencyCallbackContext recorder = new LatencyCallbackContext(fake);
+        CallbackContext discard = new CallbackContext("MobileAccessibilityLoadHarness", fake.webView) {
+            @Override
+            public void sendPluginResult(PluginResult pluginResult) {
+            }
+        };
+
+        JSONObject result = new JSONObject();
+        try {
+            if (options.has("statusCoalescingWindow")) {
+                JSONObject configuration = new JSONObject();
+                configuration.put("statusCoalescingWindow", options.getLong("statusCoalescingWindow"));
+                plugin.execute("configure", new JSONArray().put(configuration), discard);
+            }
+            int initialFlags = injector.getFlags();
+            plugin.execute("start", new JSONArray().put(SUBSCRIPTION_ID).put(SCRIPTED_FLAGS), recorder);
+
+            // The states a single thread goes through, which its status events must follow in order.
+            final ArrayList<Integer> states = new ArrayList<Integer>();
+            states.add(initialFlags);
+            Thread[] threads = new Thread[threadCount];
+            for (int i = 0; i < threadCount; i++) {
+                final Random random = new Random(seed + i);
+                final boolean recordStates = threadCount == 1;
+                threads[i] = new Thread("MobileAccessibilityLoadHarness-" + i) {
+                    @Override
+                    public void run() {
+                        inject(injector, recorder, random, trace, count, rate, recordStates ? states : null);
+                    }
+                };
+            }
+            long start = System.nanoTime();
+            for (Thread thread : threads) {
+                thread.start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            long elapsed = System.nanoTime() - start;
+            long events = (long) threadCount * count;
+
+            int expectedFlags = injector.getFlags();
+            long deadline = System.currentTimeMillis() + SETTLE_TIMEOUT_MILLIS;
+            int[] delivered = recorder.getDelivered();
+            while (lastOf(delivered) != expectedFlags && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+                delivered = recorder.getDelivered();
+            }
+            // Nothing is left to deliver once the last coalescing window has passed.
+            FakeCordova.idleMainLooper();
+            delivered = recorder.getDelivered();
+
+            int duplicates = 0;
+            for (int i = 1; i < delivered.length; i++) {
+                if (delivered[i] == delivered[i - 1]) {
+                    duplicates++;
+                }
+            }
+            JSONArray failures = new JSONArray();
+            if (delivered.length == 0 || delivered[0] != initialFlags) {
+                failures.put("The first status event does not match the initial state");
+            }
+            if (lastOf(delivered) != expectedFlags) {
+                failures.put("The last status event does not match the final state");
+            }
+            if (duplicates > 0) {
+                failures.put("Status events were sent without a change");
+            }
+            if (delivered.length > events + 1) {
+                failures.put("More status events were sent than changes were made");
+            }
+            if (threadCount == 1 && !isSubsequence(delivered, states)) {
+                failures.put("The status events are not in the order of the changes");
+            }
+            if (!FakeCordova.getUncaughtExceptions().isEmpty()) {
+                failures.put("Uncaught exceptions: " + FakeCordova.getUncaughtExceptions());
+            }
+
+            result.put("threads", threadCount);
+            result.put("events", events);
+            result.put("elapsedMillis", elapsed / 1e6);
+            result.put("eventsPerSecond", elapsed > 0 ? events * 1e9 / elapsed : 0);
+            result.put("delivered", delivered.length);
+            result.put("duplicates", duplicates);
+            result.put("expectedFlags", expectedFlags);
+            result.put("lastDeliveredFlags", lastOf(delivered));
+            result.put("latency", recorder.latency.toJSON());
+            result.put("seed", seed);
+            result.put("failures", failures);
+            result.put("passed", failures.length() == 0);
+        } finally {
+            plugin.onDestroy();
+        }
+        return result;
+    }
+
+    private static void inject(Injector injector, LatencyCallbackContext recorder, Random random, int[][] trace,
+            int count, double rate, List<Integer> states) {
+        long start = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            if (rate > 0) {
+                long wait = start + (long) (i * 1e9 / rate) - System.nanoTime();
+                if (wait > 0) {
+                    try {
+                        Thread.sleep(wait / 1000000, (int) (wait % 1000000));
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+            }
+            int index;
+            boolean enabled;
+            if (trace != null) {
+                index = trace[i][0];
+                enabled = trace[i][1] != 0;
+            } else {
+                index = random.nextInt(FLAGS.length);
+                enabled = random.nextBoolean();
+            }
+            recorder.onChange();
+            injector.set(index, enabled);
+            if (states != null) {
+                int previous = states.get(states.size() - 1);
+                int next = enabled ? previous | FLAGS[index] : previous & ~FLAGS[index];
+                if (next != previous) {
+                    states.add(next);
+                }
+            }
+        }
+    }
+
+    /* Parses the [flag name, enabled] pairs of a trace into the index of the flag and 0 or 1. */
+    private static int[][] parseTrace(JSONArray trace) throws JSONException {
+        if (trace == null) {
+            return null;
+        }
+        int[][] steps = new int[trace.length()][];
+        for (int i = 0; i < steps.length; i++) {
+            JSONArray step = trace.getJSONArray(i);
+            String name = step.getString(0);
+            int index = -1;
+            for (int j = 0; j < FLAG_NAMES.length; j++) {
+                if (FLAG_NAMES[j].equals(name)) {
+                    index = j;
+                }
+            }
+            if (index < 0) {
+                throw new JSONException("Unknown flag in trace: " + name);
+            }
+            steps[i] = new int[] { index, step.getBoolean(1) ? 1 : 0 };
+        }
+        return steps;
+    }
+
+    /* Whether the delivered states appear in the list in the same order, skipping the coalesced ones. */
+    private static boolean isSubsequence(int[] delivered, List<Integer> states) {
+        int next = 0;
+        for (int flags : delivered) {
+            while (next < states.size() && states.get(next) != flags) {
+                next++;
+            }
+            if (next == states.size()) {
+                return false;
+            }
+            next++;
+        }
+        return true;
+    }
+
+    private static int lastOf(int[] delivered) {
+        return delivered.length > 0 ? delivered[delivered.length - 1] : 0;
+    }
+}
@@ -0,0 +1,144 @@
+/**
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+
+
+package com.phonegap.plugin.mobileaccessibility;
+
+import com.phonegap.plugin.mobileaccessibility.fakes.FakeCordova;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.json.JSONTokener;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.InputStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/* Runs the load harness on generated and recorded changes, and checks the status events it reports. */
+public class StatusLoadTest {
+    private static final long SEED = 20161018L;
+
+    private FakeCordova mFake;
+
+    @Before
+    public void setUp() {
+        mFake = new FakeCordova();
+        mFake.reset();
+    }
+
+    @After
+    public void tearDown() {
+        mFake.reset();
+    }
+
+    @Test
+    public void generatedChangesFromSeveralThreads() throws Exception {
+        JSONObject report = run(options(4, 500));
+        assertPassed(report);
+        assertLatencyRecorded(report);
+    }
+
+    @Test
+    public void generatedChangesWithoutCoalescing() throws Exception {
+        JSONObject report = run(options(4, 500).put("statusCoalescingWindow", 0));
+        assertPassed(report);
+        assertLatencyRecorded(report);
+    }
+
+    @Test
+    public void generatedChangesFromOneThreadAreDeliveredInOrder() throws Exception {
+        JSONObject report = run(options(1, 1000).put("statusCoalescingWindow", 0));
+        assertPassed(report);
+        assertLatencyRecorded(report);
+    }
+
+    /* Changes spread over several windows are each delivered within the window, not only the last one. */
+    @Test
+    public void spacedChangesAreDeliveredWithinTheWindow() throws Exception {
+        JSONObject report = run(options(1, 20).put("rate", 20).put("statusCoalescingWindow", 10));
+        assertPassed(report);
+        assertLatencyRecorded(report);
+        assertTrue(report.toString(2), report.getInt("delivered") > 1);
+        assertTrue(report.toString(2), report.getJSONObject("latency").getLong("p50")
+                < MobileAccessibilityLoadHarness.SETTLE_TIMEOUT_MILLIS * 1000 / 4);
+    }
+
+    @Test
+    public void recordedTalkBackSession() throws Exception {
+        replay("talkback-session.json");
+    }
+
+    @Test
+    public void recordedDisplaySettings() throws Exception {
+        replay("display-settings.json");
+    }
+
+    /*
+     * Replays the trace on one thread, slowly enough for every state to be delivered in order, then on
+     * several threads at once, which may all fall within one window.
+     */
+    private void replay(String name) throws Exception {
+        JSONArray trace = readTrace(name);
+        JSONObject report = run(options(1, 0).put("trace", trace).put("rate", 20).put("statusCoalescingWindow", 0));
+        assertPassed(report);
+        assertEquals(report.toString(2), trace.length() + 1, report.getInt("delivered"));
+
+        mFake.reset();
+        report = run(options(4, 0).put("trace", trace));
+        assertPassed(report);
+    }
+
+    private JSONObject run(JSONObject options) throws JSONException, InterruptedException {
+        return MobileAccessibilityLoadHarness.run(mFake, options);
+    }
+
+    private static JSONObject options(int threads, int eventsPerThread) throws JSONException {
+        JSONObject options = new JSONObject();
+        options.put("threads", threads);
+        options.put("eventsPerThread", eventsPerThread);
+        options.put("seed", SEED);
+        return options;
+    }
+
+    private static JSONArray readTrace(String name) throws Exception {
+        InputStream stream = StatusLoadTest.class.getResourceAsStream("/traces/" + name);
+        try {
+            return new JSONArray(new JSONTokener(stream));
+        } finally {
+            stream.close();
+        }
+    }
+
+    private static void assertPassed(JSONObject report) throws JSONException {
+        assertTrue(report.toString(2), report.getBoolean("passed"));
+    }
+
+    private static void assertLatencyRecorded(JSONObject report) throws JSONException {
+        JSONObject latency = report.getJSONObject("latency");
+        assertTrue(report.toString(2), latency.getLong("count") > 0);
+        assertTrue(report.toString(2), latency.getLong("max") <= MobileAccessibilityLoadHarness.SETTLE_TIMEOUT_MILLIS * 1000);
+    }
+}
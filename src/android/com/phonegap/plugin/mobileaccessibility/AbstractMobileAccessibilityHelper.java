@@ -21,21 +21,29 @@
 
 package com.phonegap.plugin.mobileaccessibility;
 
-import android.view.ViewParent;
+import android.view.View;
+import android.view.accessibility.AccessibilityEvent;
 
 abstract class AbstractMobileAccessibilityHelper {
     MobileAccessibility mMobileAccessibility;
-    ViewParent mParent;
     public abstract void initialize(MobileAccessibility mobileAccessibility);
+    public abstract void prewarm();
+    public abstract View getView();
+    public abstract void setView(View view);
     public abstract boolean isClosedCaptioningEnabled();
     public abstract boolean isScreenReaderRunning();
     public abstract boolean isTouchExplorationEnabled();
+    public abstract AccessibilityServiceIndex getServiceIndex();
+    public abstract void invalidateServiceIndex();
     public abstract void onAccessibilityStateChanged(boolean enabled);
     public abstract void onCaptioningEnabledChanged(boolean enabled);
     public abstract void onTouchExplorationStateChanged(boolean enabled);
     public abstract void addStateChangeListeners();
     public abstract void removeStateChangeListeners();
+    public abstract boolean isStateChangeListenerSupported();
     public abstract void announceForAccessibility(CharSequence text);
+    public abstract AccessibilityEvent createAnnouncementEvent(CharSequence text);
+    public abstract void interrupt();
     public abstract double getTextZoom();
     public abstract void setTextZoom(double textZoom);
 }
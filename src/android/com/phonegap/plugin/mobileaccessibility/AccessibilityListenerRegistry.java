@@ -0,0 +1,339 @@
+/**
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+
+package com.phonegap.plugin.mobileaccessibility;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import android.annotation.TargetApi;
+import android.content.Context;
+import android.os.Build;
+import android.view.View;
+import android.view.accessibility.AccessibilityManager;
+import android.view.accessibility.AccessibilityManager.AccessibilityStateChangeListener;
+import android.view.accessibility.AccessibilityManager.TouchExplorationStateChangeListener;
+import android.view.accessibility.CaptioningManager;
+import android.view.accessibility.CaptioningManager.CaptioningChangeListener;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Process-wide registry shared by every plugin instance, one per Cordova WebView. It registers a single
+ * system listener of each kind while at least one helper or plugin instance listens, and fans the changes
+ * out to all of them. It also maps ids to the WebViews of the app, Cordova or not, so that text zoom and
+ * announcements can target any of them.
+ */
+final class AccessibilityListenerRegistry {
+    private static AccessibilityListenerRegistry sInstance;
+
+    /* A kind of system listener, registered with its first client and unregistered with its last one. */
+    private abstract static class Channel<T> {
+        final CopyOnWriteArrayList<T> clients = new CopyOnWriteArrayList<T>();
+        private int mRegistrations = 0;
+
+        synchronized void add(T client) {
+            if (clients.addIfAbsent(client) && clients.size() == 1) {
+                register();
+                mRegistrations++;
+            }
+        }
+
+        synchronized void remove(T client) {
+            if (clients.remove(client) && clients.isEmpty()) {
+                unregister();
+            }
+        }
+
+        synchronized JSONObject getStats() throws JSONException {
+            JSONObject stats = new JSONObject();
+            stats.put("clients", clients.size());
+            stats.put("registrations", mRegistrations);
+            return stats;
+        }
+
+        abstract void register();
+        abstract void unregister();
+    }
+
+    /**
+     * A registered WebView, with the helper and the text zoom applier shared by every plugin instance
+     * targeting it. The plugin instance of a Cordova WebView registers its own. For other WebViews they
+     * are left null until the first plugin instance targeting the WebView binds its own.
+     */
+    static final class WebViewTarget {
+        /* Null for the WebView of a plugin instance, which its helper holds and resolves on first use. */
+        private final WeakReference<View> mView;
+        final AbstractMobileAccessibilityHelper helper;
+        final TextZoomApplier textZoomApplier;
+        /* The plugin instance which bound the helper to a WebView it does not own, otherwise null. */
+        final Object binder;
+
+        /* A WebView registered by the app, held weakly, and the helper a plugin instance bound to it if any. */
+        WebViewTarget(View view, AbstractMobileAccessibilityHelper helper, TextZoomApplier textZoomApplier,
+                Object binder) {
+            mView = new WeakReference<View>(view);
+            this.helper = helper;
+            this.textZoomApplier = textZoomApplier;
+            this.binder = binder;
+        }
+
+        /* The WebView of a plugin instance, targeted through its helper without resolving the view. */
+        WebViewTarget(AbstractMobileAccessibilityHelper helper, TextZoomApplier textZoomApplier) {
+            mView = null;
+            this.helper = helper;
+            this.textZoomApplier = textZoomApplier;
+            this.binder = null;
+        }
+
+        /* Null for the WebView of a plugin instance, or once the WebView has been garbage collected. */
+        View getView() {
+            return mView != null ? mView.get() : null;
+        }
+
+        boolean isCollected() {
+            return mView != null && mView.get() == null;
+        }
+    }
+
+    private final Context mContext;
+    private final AccessibilitySettingsObserver mSettingsObserver;
+    private final ConcurrentHashMap<String, WebViewTarget> mWebViews = new ConcurrentHashMap<String, WebViewTarget>();
+    private final AtomicInteger mWebViewCount = new AtomicInteger();
+
+    private final Channel<AbstractMobileAccessibilityHelper> mAccessibilityState =
+            new Channel<AbstractMobileAccessibilityHelper>() {
+        private AccessibilityStateChangeListener mListener;
+
+        @TargetApi(Build.VERSION_CODES.ICE_CREAM_SANDWICH)
+        void register() {
+            mListener = new AccessibilityStateChangeListener() {
+                public void onAccessibilityStateChanged(boolean enabled) {
+                    for (AbstractMobileAccessibilityHelper helper : clients) {
+                        helper.onAccessibilityStateChanged(enabled);
+                    }
+                }
+            };
+            getAccessibilityManager().addAccessibilityStateChangeListener(mListener);
+        }
+
+        @TargetApi(Build.VERSION_CODES.ICE_CREAM_SANDWICH)
+        void unregister() {
+            getAccessibilityManager().removeAccessibilityStateChangeListener(mListener);
+            mListener = null;
+        }
+    };
+
+    private final Channel<AbstractMobileAccessibilityHelper> mTouchExploration =
+            new Channel<AbstractMobileAccessibilityHelper>() {
+        private TouchExplorationStateChangeListener mListener;
+
+        @TargetApi(Build.VERSION_CODES.KITKAT)
+        void register() {
+            mListener = new TouchExplorationStateChangeListener() {
+                public void onTouchExplorationStateChanged(boolean enabled) {
+                    for (AbstractMobileAccessibilityHelper helper : clients) {
+                        helper.onTouchExplorationStateChanged(enabled);
+                    }
+                }
+            };
+            getAccessibilityManager().addTouchExplorationStateChangeListener(mListener);
+        }
+
+        @TargetApi(Build.VERSION_CODES.KITKAT)
+        void unregister() {
+            getAccessibilityManager().removeTouchExplorationStateChangeListener(mListener);
+            mListener = null;
+        }
+    };
+
+    private final Channel<AbstractMobileAccessibilityHelper> mCaptioning =
+            new Channel<AbstractMobileAccessibilityHelper>() {
+        private CaptioningChangeListener mListener;
+
+        @TargetApi(Build.VERSION_CODES.KITKAT)
+        void register() {
+            mListener = new CaptioningChangeListener() {
+                @Override
+                public void onEnabledChanged(boolean enabled) {
+                    for (AbstractMobileAccessibilityHelper helper : clients) {
+                        helper.onCaptioningEnabledChanged(enabled);
+                    }
+                }
+            };
+            getCaptioningManager().addCaptioningChangeListener(mListener);
+        }
+
+        @TargetApi(Build.VERSION_CODES.KITKAT)
+        void unregister() {
+            getCaptioningManager().removeCaptioningChangeListener(mListener);
+            mListener = null;
+        }
+    };
+
+    private final Channel<AccessibilitySettingsObserver.OnSettingsChangeListener> mSettings =
+            new Channel<AccessibilitySettingsObserver.OnSettingsChangeListener>() {
+        void register() {
+            mSettingsObserver.register();
+        }
+
+        void unregister() {
+            mSettingsObserver.unregister();
+        }
+    };
+
+    private AccessibilityListenerRegistry(Context context) {
+        mContext = context;
+        mSettingsObserver = new AccessibilitySettingsObserver(context, null,
+                new AccessibilitySettingsObserver.OnSettingsChangeListener() {
+                    public void onSettingsChanged(int flags) {
+                        for (AccessibilitySettingsObserver.OnSettingsChangeListener listener : mSettings.clients) {
+                            listener.onSettingsChanged(flags);
+                        }
+                    }
+                });
+    }
+
+    static synchronized AccessibilityListenerRegistry getInstance(Context context) {
+        if (sInstance == null) {
+            sInstance = new AccessibilityListenerRegistry(context.getApplicationContext());
+        }
+        return sInstance;
+    }
+
+    private AccessibilityManager getAccessibilityManager() {
+        return (AccessibilityManager) mContext.getSystemService(Context.ACCESSIBILITY_SERVICE);
+    }
+
+    @TargetApi(Build.VERSION_CODES.KITKAT)
+    private CaptioningManager getCaptioningManager() {
+        return (CaptioningManager) mContext.getSystemService(Context.CAPTIONING_SERVICE);
+    }
+
+    void addAccessibilityStateListener(AbstractMobileAccessibilityHelper helper) {
+        mAccessibilityState.add(helper);
+    }
+
+    void removeAccessibilityStateListener(AbstractMobileAccessibilityHelper helper) {
+        mAccessibilityState.remove(helper);
+    }
+
+    void addTouchExplorationListener(AbstractMobileAccessibilityHelper helper) {
+        mTouchExploration.add(helper);
+    }
+
+    void removeTouchExplorationListener(AbstractMobileAccessibilityHelper helper) {
+        mTouchExploration.remove(helper);
+    }
+
+    void addCaptioningListener(AbstractMobileAccessibilityHelper helper) {
+        mCaptioning.add(helper);
+    }
+
+    void removeCaptioningListener(AbstractMobileAccessibilityHelper helper) {
+        mCaptioning.remove(helper);
+    }
+
+    void addSettingsListener(AccessibilitySettingsObserver.OnSettingsChangeListener listener) {
+        mSettings.add(listener);
+    }
+
+    void removeSettingsListener(AccessibilitySettingsObserver.OnSettingsChangeListener listener) {
+        mSettings.remove(listener);
+    }
+
+    int readSettingsFlags() {
+        return mSettingsObserver.readFlags();
+    }
+
+    /* The clients of each kind of system listener, and how many times it was registered. */
+    JSONObject getStats() throws JSONException {
+        JSONObject stats = new JSONObject();
+        stats.put("accessibilityState", mAccessibilityState.getStats());
+        stats.put("touchExploration", mTouchExploration.getStats());
+        stats.put("captioning", mCaptioning.getStats());
+        stats.put("settings", mSettings.getStats());
+        return stats;
+    }
+
+    String nextWebViewId() {
+        return "webview" + mWebViewCount.incrementAndGet();
+    }
+
+    /* Maps the id to the WebView, replacing any previous one. */
+    void registerWebView(String id, WebViewTarget target) {
+        mWebViews.put(id, target);
+    }
+
+    /* Removes the id only if it still maps to the given view. */
+    void unregisterWebView(String id, View view) {
+        WebViewTarget target = mWebViews.get(id);
+        if (target != null && target.getView() == view) {
+            mWebViews.remove(id, target);
+        }
+    }
+
+    /* Removes the id only if it still maps to the given target. */
+    void unregisterWebView(String id, WebViewTarget target) {
+        mWebViews.remove(id, target);
+    }
+
+    /* Returns null when the id is unknown or its WebView was garbage collected. */
+    WebViewTarget getWebViewTarget(String id) {
+        WebViewTarget target = mWebViews.get(id);
+        if (target != null && target.isCollected()) {
+            mWebViews.remove(id, target);
+            return null;
+        }
+        return target;
+    }
+
+    /* Replaces a target without a helper by one with the helper of the caller, unless another caller did first. */
+    boolean bindWebViewTarget(String id, WebViewTarget unbound, WebViewTarget bound) {
+        return mWebViews.replace(id, unbound, bound);
+    }
+
+    /* Drops the helpers bound by a plugin instance which is destroyed, to be bound again by the next one. */
+    void releaseWebViewTargets(Object binder) {
+        for (Map.Entry<String, WebViewTarget> entry : mWebViews.entrySet()) {
+            WebViewTarget target = entry.getValue();
+            View view = target.getView();
+            if (target.binder == binder && view != null) {
+                mWebViews.replace(entry.getKey(), target, new WebViewTarget(view, null, null, null));
+            }
+        }
+    }
+
+    JSONArray getWebViewIds() {
+        JSONArray ids = new JSONArray();
+        for (Map.Entry<String, WebViewTarget> entry : mWebViews.entrySet()) {
+            if (!entry.getValue().isCollected()) {
+                ids.put(entry.getKey());
+            }
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,129 @@
+/**
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+
+package com.phonegap.plugin.mobileaccessibility;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import android.accessibilityservice.AccessibilityServiceInfo;
+import android.content.pm.ResolveInfo;
+
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Immutable index of the enabled accessibility services, by package and by feedback type. The helpers
+ * keep one while the state change listeners are registered, and build a new one after each change.
+ * The JSON description of the services is only built when it is asked for.
+ */
+final class AccessibilityServiceIndex {
+    static final AccessibilityServiceIndex EMPTY = new AccessibilityServiceIndex(null);
+
+    private static final int[] FEEDBACK_TYPES = {
+        AccessibilityServiceInfo.FEEDBACK_SPOKEN,
+        AccessibilityServiceInfo.FEEDBACK_HAPTIC,
+        AccessibilityServiceInfo.FEEDBACK_AUDIBLE,
+        AccessibilityServiceInfo.FEEDBACK_VISUAL,
+        AccessibilityServiceInfo.FEEDBACK_GENERIC,
+        AccessibilityServiceInfo.FEEDBACK_BRAILLE
+    };
+    private static final String[] FEEDBACK_NAMES = {
+        "spoken", "haptic", "audible", "visual", "generic", "braille"
+    };
+
+    /* The feedback types of the enabled services of each package. */
+    private final HashMap<String, Integer> mPackages = new HashMap<String, Integer>();
+    /* The feedback types of all enabled services. */
+    private final int mFeedbackTypes;
+    private final List<AccessibilityServiceInfo> mServiceInfos;
+    /* Only built when getServices is called, then kept since a PluginResult only keeps the encoded string. */
+    private JSONArray mServices;
+
+    AccessibilityServiceIndex(List<AccessibilityServiceInfo> services) {
+        int feedbackTypes = 0;
+        if (services != null) {
+            for (AccessibilityServiceInfo service : services) {
+                String packageName = getPackageName(service);
+                Integer packageFeedbackTypes = mPackages.get(packageName);
+                mPackages.put(packageName, packageFeedbackTypes == null
+                        ? service.feedbackType : packageFeedbackTypes | service.feedbackType);
+                feedbackTypes |= service.feedbackType;
+            }
+        }
+        mFeedbackTypes = feedbackTypes;
+        mServiceInfos = services;
+    }
+
+    /* Whether an enabled service gives one of the feedback types in the mask. */
+    boolean hasFeedbackType(int feedbackTypes) {
+        return (mFeedbackTypes & feedbackTypes) != 0;
+    }
+
+    /* Whether the package has an enabled service, which gives one of the feedback types in the mask unless it is 0. */
+    boolean isServiceEnabled(String packageName, int feedbackTypes) {
+        Integer packageFeedbackTypes = mPackages.get(packageName);
+        return packageFeedbackTypes != null && (feedbackTypes == 0 || (packageFeedbackTypes & feedbackTypes) != 0);
+    }
+
+    synchronized JSONArray getServices() {
+        if (mServices == null) {
+            mServices = new JSONArray();
+            if (mServiceInfos != null) {
+                for (AccessibilityServiceInfo service : mServiceInfos) {
+                    mServices.put(toJSON(service, getPackageName(service)));
+                }
+            }
+        }
+        return mServices;
+    }
+
+    private static String getPackageName(AccessibilityServiceInfo service) {
+        ResolveInfo resolveInfo = service.getResolveInfo();
+        if (resolveInfo != null && resolveInfo.serviceInfo != null) {
+            return resolveInfo.serviceInfo.packageName;
+        }
+        // The id is the flattened component name, "package/class".
+        String id = service.getId();
+        int separator = id.indexOf('/');
+        return separator < 0 ? id : id.substring(0, separator);
+    }
+
+    private static JSONObject toJSON(AccessibilityServiceInfo service, String packageName) {
+        JSONObject json = new JSONObject();
+        try {
+            json.put("id", service.getId());
+            json.put("packageName", packageName);
+            json.put("feedbackType", service.feedbackType);
+            JSONArray feedback = new JSONArray();
+            for (int i = 0; i < FEEDBACK_TYPES.length; i++) {
+                if ((service.feedbackType & FEEDBACK_TYPES[i]) != 0) {
+                    feedback.put(FEEDBACK_NAMES[i]);
+                }
+            }
+            json.put("feedback", feedback);
+        } catch (JSONException e) {
+            e.printStackTrace();
+        }
+        return json;
+    }
+}
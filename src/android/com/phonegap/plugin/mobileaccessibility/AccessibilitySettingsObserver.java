@@ -0,0 +1,137 @@
+/**
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+
+package com.phonegap.plugin.mobileaccessibility;
+
+import android.content.ContentResolver;
+import android.content.Context;
+import android.database.ContentObserver;
+import android.net.Uri;
+import android.os.Build;
+import android.os.Handler;
+import android.provider.Settings;
+
+/**
+ * Watches the system settings behind the accessibility flags Android has no listener for: high contrast
+ * text, color inversion, grayscale, removed animations and bold text. One observer is registered for all
+ * of them, and every change reads them again into the matching MobileAccessibilityState flags. The list
+ * of enabled accessibility services is watched as well, since it can change while the accessibility state
+ * stays enabled.
+ */
+class AccessibilitySettingsObserver extends ContentObserver {
+    /* Settings.Secure keys hidden from the SDK, which have kept these names since they were added. */
+    private static final String HIGH_TEXT_CONTRAST_ENABLED = "high_text_contrast_enabled";
+    private static final String DISPLAY_INVERSION_ENABLED = "accessibility_display_inversion_enabled";
+    private static final String DISPLAY_DALTONIZER_ENABLED = "accessibility_display_daltonizer_enabled";
+    private static final String DISPLAY_DALTONIZER = "accessibility_display_daltonizer";
+    private static final String FONT_WEIGHT_ADJUSTMENT = "font_weight_adjustment";
+    /* The color correction mode which renders the display in shades of gray. */
+    private static final int DALTONIZER_SIMULATE_MONOCHROMACY = 0;
+
+    interface OnSettingsChangeListener {
+        /* Receives the MobileAccessibilityState.SETTINGS_FLAGS bits which are set, after any watched change. */
+        void onSettingsChanged(int flags);
+    }
+
+    private final ContentResolver mContentResolver;
+    private final OnSettingsChangeListener mListener;
+    private boolean mRegistered = false;
+
+    /* Changes are delivered on the handler, or on a binder thread when it is null. */
+    AccessibilitySettingsObserver(Context context, Handler handler, OnSettingsChangeListener listener) {
+        super(handler);
+        mContentResolver = context.getContentResolver();
+        mListener = listener;
+    }
+
+    synchronized void register() {
+        if (mRegistered) {
+            return;
+        }
+        registerSecure(HIGH_TEXT_CONTRAST_ENABLED);
+        registerSecure(DISPLAY_INVERSION_ENABLED);
+        registerSecure(DISPLAY_DALTONIZER_ENABLED);
+        registerSecure(DISPLAY_DALTONIZER);
+        registerSecure(FONT_WEIGHT_ADJUSTMENT);
+        registerSecure(Settings.Secure.ENABLED_ACCESSIBILITY_SERVICES);
+        mContentResolver.registerContentObserver(getAnimatorDurationScaleUri(), false, this);
+        mRegistered = true;
+    }
+
+    synchronized void unregister() {
+        if (mRegistered) {
+            mContentResolver.unregisterContentObserver(this);
+            mRegistered = false;
+        }
+    }
+
+    /* Settings which do not exist on this version of Android read as disabled. */
+    int readFlags() {
+        int flags = 0;
+        if (getSecureInt(HIGH_TEXT_CONTRAST_ENABLED) != 0) {
+            flags |= MobileAccessibilityState.HIGH_CONTRAST_ENABLED;
+        }
+        if (getSecureInt(DISPLAY_INVERSION_ENABLED) != 0) {
+            flags |= MobileAccessibilityState.INVERT_COLORS_ENABLED;
+        }
+        if (getSecureInt(DISPLAY_DALTONIZER_ENABLED) != 0
+                && Settings.Secure.getInt(mContentResolver, DISPLAY_DALTONIZER, -1) == DALTONIZER_SIMULATE_MONOCHROMACY) {
+            flags |= MobileAccessibilityState.GRAYSCALE_ENABLED;
+        }
+        if (getAnimatorDurationScale() == 0) {
+            flags |= MobileAccessibilityState.REDUCE_MOTION_ENABLED;
+        }
+        // Android 12 (API 31), whose constant is missing from older compile SDKs.
+        if (Build.VERSION.SDK_INT >= 31 && getSecureInt(FONT_WEIGHT_ADJUSTMENT) > 0) {
+            flags |= MobileAccessibilityState.BOLD_TEXT_ENABLED;
+        }
+        return flags;
+    }
+
+    @Override
+    public void onChange(boolean selfChange) {
+        mListener.onSettingsChanged(readFlags());
+    }
+
+    private void registerSecure(String name) {
+        mContentResolver.registerContentObserver(Settings.Secure.getUriFor(name), false, this);
+    }
+
+    private int getSecureInt(String name) {
+        return Settings.Secure.getInt(mContentResolver, name, 0);
+    }
+
+    @SuppressWarnings("deprecation")
+    private Uri getAnimatorDurationScaleUri() {
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN_MR1) {
+            return Settings.Global.getUriFor(Settings.Global.ANIMATOR_DURATION_SCALE);
+        }
+        return Settings.System.getUriFor(Settings.System.ANIMATOR_DURATION_SCALE);
+    }
+
+    @SuppressWarnings("deprecation")
+    private float getAnimatorDurationScale() {
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN_MR1) {
+            return Settings.Global.getFloat(mContentResolver, Settings.Global.ANIMATOR_DURATION_SCALE, 1);
+        }
+        return Settings.System.getFloat(mContentResolver, Settings.System.ANIMATOR_DURATION_SCALE, 1);
+    }
+}
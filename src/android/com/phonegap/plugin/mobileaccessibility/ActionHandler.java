@@ -0,0 +1,54 @@
+/**
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+
+package com.phonegap.plugin.mobileaccessibility;
+
+import org.apache.cordova.CallbackContext;
+import org.json.JSONArray;
+import org.json.JSONException;
+
+/**
+ * Handles one action of MobileAccessibility.execute, on the thread it declares. A handler must not be
+ * registered for several actions, as it holds the journal name of its action.
+ */
+abstract class ActionHandler {
+    /* Runs on the thread that called execute. */
+    static final int THREAD_INLINE = 0;
+    /* Runs on the UI thread. */
+    static final int THREAD_UI = 1;
+    /* Runs on the Cordova thread pool. */
+    static final int THREAD_POOL = 2;
+
+    final int thread;
+    /* The name of the action in the EventJournal, set when the handler is registered. */
+    int journalName;
+
+    ActionHandler(int thread) {
+        this.thread = thread;
+    }
+
+    /* The thread to run this call on, which is the declared one unless the handler can answer more cheaply. */
+    int getThread() {
+        return thread;
+    }
+
+    abstract void execute(JSONArray args, CallbackContext callbackContext) throws JSONException;
+}
@@ -0,0 +1,364 @@
+/**
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+
+package com.phonegap.plugin.mobileaccessibility;
+
+import org.apache.cordova.CallbackContext;
+import org.apache.cordova.PluginResult;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.Process;
+import android.os.SystemClock;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+
+/**
+ * Queues announcements for the screen reader and sends them one at a time from a dedicated scheduler
+ * thread, spacing them by an estimate of how long the previous one takes to be spoken.
+ */
+class AnnouncementQueue {
+    static final int QUEUE_MODE_FLUSH = 0;
+    static final int QUEUE_MODE_QUEUE = 1;
+    static final String OVERFLOW_DROP_OLDEST = "dropOldest";
+    static final String OVERFLOW_MERGE = "merge";
+
+    static final int DEFAULT_MAX_DEPTH = 20;
+    static final long DEFAULT_CHARACTER_DURATION_MILLIS = 60;
+    static final long DEFAULT_MINIMUM_INTERVAL_MILLIS = 100;
+    static final int DEFAULT_MAX_LENGTH = 0;
+
+    private static final Comparator<Announcement> ORDER = new Comparator<Announcement>() {
+        public int compare(Announcement a, Announcement b) {
+            if (a.priority != b.priority) {
+                return a.priority > b.priority ? -1 : 1;
+            }
+            return a.sequence < b.sequence ? -1 : (a.sequence == b.sequence ? 0 : 1);
+        }
+    };
+
+    private static final class Announcement {
+        final CharSequence text;
+        final int priority;
+        final long sequence;
+        final CallbackContext callbackContext;
+        /* Bound to the WebView sending the announcement. */
+        final AbstractMobileAccessibilityHelper helper;
+        ArrayList<Announcement> merged;
+
+        Announcement(CharSequence text, int priority, long sequence, CallbackContext callbackContext,
+                AbstractMobileAccessibilityHelper helper) {
+            this.text = text;
+            this.priority = priority;
+            this.sequence = sequence;
+            this.callbackContext = callbackContext;
+            this.helper = helper;
+        }
+
+        CharSequence getSpokenText() {
+            if (merged == null) {
+                return text;
+            }
+            StringBuilder builder = new StringBuilder(text);
+            for (Announcement announcement : merged) {
+                builder.append(' ').append(announcement.text);
+            }
+            return builder;
+        }
+    }
+
+    private final MobileAccessibility mMobileAccessibility;
+    private final AbstractMobileAccessibilityHelper mMobileAccessibilityHelper;
+    private final LatencyHistogram mAnnouncementLatency;
+    private final EventJournal mJournal;
+    /* Started with the first announcement. */
+    private HandlerThread mSchedulerThread;
+    private Handler mScheduler;
+    private final PriorityQueue<Announcement> mQueue = new PriorityQueue<Announcement>(DEFAULT_MAX_DEPTH, ORDER);
+    private long mSequence = 0;
+    private boolean mScheduled = false;
+    /* Incremented when a flush or shutdown takes over scheduling from a drain which may be running. */
+    private int mDrainGeneration = 0;
+    private boolean mInterruptPending = false;
+    private long mNextAnnouncementTime = 0;
+
+    private volatile int mMaxDepth = DEFAULT_MAX_DEPTH;
+    private volatile String mOverflowPolicy = OVERFLOW_DROP_OLDEST;
+    private volatile long mCharacterDurationMillis = DEFAULT_CHARACTER_DURATION_MILLIS;
+    private volatile long mMinimumIntervalMillis = DEFAULT_MINIMUM_INTERVAL_MILLIS;
+    private volatile int mMaxLength = DEFAULT_MAX_LENGTH;
+    private volatile boolean mJsonResults = false;
+
+    private final Runnable mDrain = new Runnable() {
+        public void run() {
+            drain();
+        }
+    };
+
+    AnnouncementQueue(MobileAccessibility mobileAccessibility, AbstractMobileAccessibilityHelper helper,
+            LatencyHistogram announcementLatency, EventJournal journal) {
+        mMobileAccessibility = mobileAccessibility;
+        mMobileAccessibilityHelper = helper;
+        mAnnouncementLatency = announcementLatency;
+        mJournal = journal;
+    }
+
+    /* Called with the queue locked. */
+    private Handler getScheduler() {
+        if (mScheduler == null) {
+            mSchedulerThread = new HandlerThread("MobileAccessibilityAnnouncements", Process.THREAD_PRIORITY_BACKGROUND);
+            mSchedulerThread.start();
+            mScheduler = new Handler(mSchedulerThread.getLooper());
+        }
+        return mScheduler;
+    }
+
+    void setMaxDepth(int maxDepth) {
+        mMaxDepth = Math.max(1, maxDepth);
+    }
+
+    void setOverflowPolicy(String overflowPolicy) {
+        mOverflowPolicy = OVERFLOW_MERGE.equals(overflowPolicy) ? OVERFLOW_MERGE : OVERFLOW_DROP_OLDEST;
+    }
+
+    void setCharacterDurationMillis(long characterDurationMillis) {
+        mCharacterDurationMillis = Math.max(0, characterDurationMillis);
+    }
+
+    void setMinimumIntervalMillis(long minimumIntervalMillis) {
+        mMinimumIntervalMillis = Math.max(0, minimumIntervalMillis);
+    }
+
+    /* Zero for no limit. */
+    void setMaxLength(int maxLength) {
+        mMaxLength = Math.max(0, maxLength);
+    }
+
+    /* By default only wasSuccessful is sent, and the JavaScript wrapper adds the stringValue it already has. */
+    void setJsonResults(boolean jsonResults) {
+        mJsonResults = jsonResults;
+    }
+
+    /**
+     * Adds an announcement from any thread, sent from the WebView of the given helper, or of the plugin when
+     * it is null. In flush mode every pending announcement is dropped and the speech in progress is
+     * interrupted before the new one is sent.
+     */
+    void enqueue(CharSequence text, int queueMode, int priority, CallbackContext callbackContext,
+            AbstractMobileAccessibilityHelper helper) {
+        ArrayList<Announcement> dropped = null;
+        synchronized (mQueue) {
+            if (queueMode == QUEUE_MODE_FLUSH) {
+                dropped = new ArrayList<Announcement>(mQueue);
+                mQueue.clear();
+                mInterruptPending = true;
+                mNextAnnouncementTime = 0;
+                getScheduler().removeCallbacks(mDrain);
+                mScheduled = false;
+                mDrainGeneration++;
+            }
+            mQueue.add(new Announcement(text, priority, mSequence++, callbackContext,
+                    helper != null ? helper : mMobileAccessibilityHelper));
+            while (mQueue.size() > mMaxDepth) {
+                Announcement overflow = removeOverflow();
+                if (overflow != null) {
+                    if (dropped == null) {
+                        dropped = new ArrayList<Announcement>(1);
+                    }
+                    dropped.add(overflow);
+                }
+            }
+            if (!mScheduled) {
+                mScheduled = true;
+                getScheduler().postAtTime(mDrain, Math.max(SystemClock.uptimeMillis(), mNextAnnouncementTime));
+            }
+        }
+        if (dropped != null) {
+            for (Announcement announcement : dropped) {
+                complete(announcement, false);
+            }
+        }
+    }
+
+    /* Drops every pending announcement, e.g. when the plugin is destroyed. */
+    void shutdown() {
+        ArrayList<Announcement> dropped;
+        synchronized (mQueue) {
+            dropped = new ArrayList<Announcement>(mQueue);
+            mQueue.clear();
+            mScheduled = false;
+            mDrainGeneration++;
+            if (mScheduler != null) {
+                mScheduler.removeCallbacks(mDrain);
+                mSchedulerThread.quit();
+                mScheduler = null;
+                mSchedulerThread = null;
+            }
+        }
+        for (Announcement announcement : dropped) {
+            complete(announcement, false);
+        }
+    }
+
+    /**
+     * Removes the oldest announcement with the lowest priority. With the merge policy it is combined
+     * with the next one of the same priority instead, and null is returned.
+     */
+    private Announcement removeOverflow() {
+        int lowestPriority = Integer.MAX_VALUE;
+        for (Announcement announcement : mQueue) {
+            lowestPriority = Math.min(lowestPriority, announcement.priority);
+        }
+        Announcement oldest = null;
+        Announcement next = null;
+        for (Announcement announcement : mQueue) {
+            if (announcement.priority != lowestPriority) {
+                continue;
+            }
+            if (oldest == null || announcement.sequence < oldest.sequence) {
+                next = oldest;
+                oldest = announcement;
+            } else if (next == null || announcement.sequence < next.sequence) {
+                next = announcement;
+            }
+        }
+        if (OVERFLOW_MERGE.equals(mOverflowPolicy) && next != null) {
+            mQueue.remove(next);
+            if (oldest.merged == null) {
+                oldest.merged = new ArrayList<Announcement>(2);
+            }
+            oldest.merged.add(next);
+            if (next.merged != null) {
+                oldest.merged.addAll(next.merged);
+                next.merged = null;
+            }
+            return null;
+        }
+        mQueue.remove(oldest);
+        return oldest;
+    }
+
+    /**
+     * Runs on the scheduler thread, which prepares the text so that the UI thread only builds and sends the
+     * events. While no screen reader is running, every pending announcement is sent in the same UI step.
+     */
+    private void drain() {
+        final ArrayList<Announcement> batch = new ArrayList<Announcement>(1);
+        final boolean interrupt;
+        final boolean isScreenReaderRunning = mMobileAccessibility.isScreenReaderRunning();
+        final int generation;
+        synchronized (mQueue) {
+            generation = mDrainGeneration;
+            Announcement announcement = mQueue.poll();
+            interrupt = mInterruptPending;
+            mInterruptPending = false;
+            if (announcement == null) {
+                mScheduled = false;
+                return;
+            }
+            batch.add(announcement);
+            if (!isScreenReaderRunning) {
+                while ((announcement = mQueue.poll()) != null) {
+                    batch.add(announcement);
+                }
+            }
+        }
+
+        final CharSequence[] texts = new CharSequence[batch.size()];
+        int length = 0;
+        for (int i = 0; i < texts.length; i++) {
+            texts[i] = prepareText(batch.get(i).getSpokenText());
+            length += texts[i].length();
+        }
+        final int totalLength = length;
+        mMobileAccessibility.cordova.getActivity().runOnUiThread(new Runnable() {
+            public void run() {
+                long start = System.nanoTime();
+                mJournal.record(EventJournal.TYPE_ANNOUNCEMENT, totalLength, texts.length);
+                if (interrupt) {
+                    mMobileAccessibilityHelper.interrupt();
+                }
+                for (int i = 0; i < texts.length; i++) {
+                    batch.get(i).helper.announceForAccessibility(texts[i]);
+                }
+                mAnnouncementLatency.record(System.nanoTime() - start);
+                for (int i = 0; i < texts.length; i++) {
+                    complete(batch.get(i), isScreenReaderRunning);
+                }
+            }
+        });
+
+        synchronized (mQueue) {
+            if (generation != mDrainGeneration) {
+                // Flushed while this batch was prepared: the flush has already scheduled the next drain.
+                return;
+            }
+            long now = SystemClock.uptimeMillis();
+            mNextAnnouncementTime = isScreenReaderRunning
+                    ? now + mMinimumIntervalMillis + length * mCharacterDurationMillis
+                    : now;
+            if (mQueue.isEmpty()) {
+                mScheduled = false;
+            } else {
+                getScheduler().postAtTime(mDrain, mNextAnnouncementTime);
+            }
+        }
+    }
+
+    /* Trims the text and truncates it to the maximum length, at a word boundary when there is one. */
+    CharSequence prepareText(CharSequence text) {
+        String prepared = text.toString().trim();
+        int maxLength = mMaxLength;
+        if (maxLength > 0 && prepared.length() > maxLength) {
+            int end = prepared.lastIndexOf(' ', maxLength);
+            prepared = prepared.substring(0, end > maxLength / 2 ? end : maxLength);
+        }
+        return prepared;
+    }
+
+    private void complete(Announcement announcement, boolean wasSuccessful) {
+        sendResult(announcement, wasSuccessful);
+        if (announcement.merged != null) {
+            for (Announcement merged : announcement.merged) {
+                sendResult(merged, wasSuccessful);
+            }
+        }
+    }
+
+    private void sendResult(Announcement announcement, boolean wasSuccessful) {
+        if (announcement.callbackContext != null && !mJsonResults) {
+            announcement.callbackContext.sendPluginResult(new PluginResult(PluginResult.Status.OK, wasSuccessful));
+        } else if (announcement.callbackContext != null) {
+            JSONObject info = new JSONObject();
+            try {
+                info.put("stringValue", announcement.text);
+                info.put("wasSuccessful", wasSuccessful);
+            } catch (JSONException e) {
+                e.printStackTrace();
+            }
+            announcement.callbackContext.success(info);
+        }
+    }
+}
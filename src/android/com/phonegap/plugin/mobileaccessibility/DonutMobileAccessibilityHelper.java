@@ -37,20 +37,51 @@ import java.lang.reflect.Method;
 @TargetApi(Build.VERSION_CODES.DONUT)
 public class DonutMobileAccessibilityHelper extends
         AbstractMobileAccessibilityHelper {
-    AccessibilityManager mAccessibilityManager;
-    View mView;
+    private volatile View mView;
+    private volatile AccessibilityManager mAccessibilityManager;
+    private volatile WebSettingsAccessor mWebSettings;
 
+    /* The view and the system services are resolved on first use, or ahead of it by prewarm. */
     @Override
     public void initialize(MobileAccessibility mobileAccessibility) {
         mMobileAccessibility = mobileAccessibility;
-        WebView view;
+    }
+
+    @Override
+    public void prewarm() {
+        getView();
+        getAccessibilityManager();
+        getWebSettings();
+    }
+
+    @Override
+    public View getView() {
+        View view = mView;
+        if (view == null) {
+            synchronized (this) {
+                view = mView;
+                if (view == null) {
+                    view = resolveView();
+                    mView = view;
+                }
+            }
+        }
+        return view;
+    }
+
+    /* Binds the helper to another WebView than the one of the plugin, before its first use. */
+    @Override
+    public void setView(View view) {
+        mView = view;
+    }
+
+    private View resolveView() {
         try {
-            view = (WebView) mobileAccessibility.webView;
-            mView = view;
+            return (WebView) mMobileAccessibility.webView;
         } catch(ClassCastException ce) {  // cordova-android 4.0+
             try {
-                Method getView = mobileAccessibility.webView.getClass().getMethod("getView");
-                mView = (View) getView.invoke(mobileAccessibility.webView);
+                Method getView = mMobileAccessibility.webView.getClass().getMethod("getView");
+                return (View) getView.invoke(mMobileAccessibility.webView);
             } catch (NoSuchMethodException e) {
                 e.printStackTrace();
             } catch (InvocationTargetException e) {
@@ -59,8 +90,39 @@ public class DonutMobileAccessibilityHelper extends
                 e.printStackTrace();
             }
         }
+        return null;
+    }
 
-        mAccessibilityManager = (AccessibilityManager) mMobileAccessibility.cordova.getActivity().getSystemService(Context.ACCESSIBILITY_SERVICE);
+    AccessibilityManager getAccessibilityManager() {
+        AccessibilityManager accessibilityManager = mAccessibilityManager;
+        if (accessibilityManager == null) {
+            synchronized (this) {
+                accessibilityManager = mAccessibilityManager;
+                if (accessibilityManager == null) {
+                    accessibilityManager = (AccessibilityManager) mMobileAccessibility.cordova.getActivity().getSystemService(Context.ACCESSIBILITY_SERVICE);
+                    mAccessibilityManager = accessibilityManager;
+                }
+            }
+        }
+        return accessibilityManager;
+    }
+
+    AccessibilityListenerRegistry getListenerRegistry() {
+        return AccessibilityListenerRegistry.getInstance(mMobileAccessibility.cordova.getActivity());
+    }
+
+    WebSettingsAccessor getWebSettings() {
+        WebSettingsAccessor webSettings = mWebSettings;
+        if (webSettings == null) {
+            synchronized (this) {
+                webSettings = mWebSettings;
+                if (webSettings == null) {
+                    webSettings = WebSettingsAccessor.forView(getView());
+                    mWebSettings = webSettings;
+                }
+            }
+        }
+        return webSettings;
     }
 
     @Override
@@ -70,7 +132,7 @@ public class DonutMobileAccessibilityHelper extends
 
     @Override
     public boolean isScreenReaderRunning() {
-        return mAccessibilityManager.isEnabled();
+        return getAccessibilityManager().isEnabled();
     }
 
     @Override
@@ -78,6 +140,16 @@ public class DonutMobileAccessibilityHelper extends
         return false;
     }
 
+    /* The enabled services can only be listed from Ice Cream Sandwich on. */
+    @Override
+    public AccessibilityServiceIndex getServiceIndex() {
+        return AccessibilityServiceIndex.EMPTY;
+    }
+
+    @Override
+    public void invalidateServiceIndex() {
+    }
+
     @Override
     public void onAccessibilityStateChanged(boolean enabled) {
         mMobileAccessibility.onAccessibilityStateChanged(enabled);
@@ -101,43 +173,45 @@ public class DonutMobileAccessibilityHelper extends
     public void removeStateChangeListeners() {
     }
 
+    @Override
+    public boolean isStateChangeListenerSupported() {
+        return false;
+    }
+
     @Override
     public void announceForAccessibility(CharSequence text) {
-        if (!mAccessibilityManager.isEnabled()) {
+        if (!getAccessibilityManager().isEnabled()) {
             return;
         }
 
+        getAccessibilityManager().sendAccessibilityEvent(createAnnouncementEvent(text));
+    }
+
+    @Override
+    public AccessibilityEvent createAnnouncementEvent(CharSequence text) {
         final int eventType = AccessibilityEvent.TYPE_VIEW_FOCUSED;
         final AccessibilityEvent event = AccessibilityEvent.obtain(eventType);
+        final View view = getView();
         event.getText().add(text);
-        event.setEnabled(mView.isEnabled());
-        event.setClassName(mView.getClass().getName());
-        event.setPackageName(mView.getContext().getPackageName());
+        event.setEnabled(view.isEnabled());
+        event.setClassName(view.getClass().getName());
+        event.setPackageName(view.getContext().getPackageName());
         event.setContentDescription(null);
+        return event;
+    }
 
-        mAccessibilityManager.sendAccessibilityEvent(event);
+    @Override
+    public void interrupt() {
+        if (getAccessibilityManager().isEnabled()) {
+            getAccessibilityManager().interrupt();
+        }
     }
 
     @SuppressWarnings("deprecation")
     @Override
     public double getTextZoom() {
         double zoom = 100;
-        WebSettings.TextSize wTextSize = WebSettings.TextSize.NORMAL;
-
-        try {
-            Method getSettings = mView.getClass().getMethod("getSettings");
-            Object wSettings = getSettings.invoke(mView);
-            Method getTextSize = wSettings.getClass().getMethod("getTextSize");
-            wTextSize = (WebSettings.TextSize) getTextSize.invoke(wSettings);
-        } catch(ClassCastException ce) {
-            ce.printStackTrace();
-        } catch (NoSuchMethodException e) {
-            e.printStackTrace();
-        } catch (InvocationTargetException e) {
-            e.printStackTrace();
-        } catch (IllegalAccessException e) {
-            e.printStackTrace();
-        }
+        WebSettings.TextSize wTextSize = getWebSettings().getTextSize();
 
         switch (wTextSize) {
         case LARGEST:
@@ -171,17 +245,6 @@ public class DonutMobileAccessibilityHelper extends
             wTextSize = WebSettings.TextSize.SMALLER;
         }
         //Log.i("MobileAccessibility", "fontScale = " + zoom + ", WebSettings.TextSize = " + wTextSize.toString());
-        try {
-            Method getSettings = mView.getClass().getMethod("getSettings");
-            Object wSettings = getSettings.invoke(mView);
-            Method setTextSize = wSettings.getClass().getMethod("setTextSize", WebSettings.TextSize.class);
-            setTextSize.invoke(wSettings, wTextSize);
-        } catch (NoSuchMethodException e) {
-            e.printStackTrace();
-        } catch (InvocationTargetException e) {
-            e.printStackTrace();
-        } catch (IllegalAccessException e) {
-            e.printStackTrace();
-        }
+        getWebSettings().setTextSize(wTextSize);
     }
 }
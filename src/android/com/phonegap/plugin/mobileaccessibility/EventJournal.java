@@ -0,0 +1,249 @@
+/**
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+
+package com.phonegap.plugin.mobileaccessibility;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Always-on journal of the last events of the plugin, kept in a fixed ring of slots which is allocated by the
+ * first event. Recording claims a slot with a single atomic increment and then never locks or allocates; the
+ * oldest events are overwritten once the ring is full. The exportJournal action writes the journal to a file.
+ */
+final class EventJournal {
+    static final int CAPACITY = 4096;
+
+    /* a: the MobileAccessibilityState flag, b: 1 when enabled. */
+    static final int TYPE_LISTENER = 1;
+    /* a: the MobileAccessibilityState.SETTINGS_FLAGS bits which are set. */
+    static final int TYPE_SETTINGS = 2;
+    /* a: the name of the action, b: the ActionHandler thread. */
+    static final int TYPE_ACTION = 3;
+    /* a: the length of the spoken text, b: the number of announcements sent together. */
+    static final int TYPE_ANNOUNCEMENT = 4;
+    /* a: the text zoom applied. */
+    static final int TYPE_TEXT_ZOOM = 5;
+    /* a: 1 when multitasking. */
+    static final int TYPE_PAUSE = 6;
+    static final int TYPE_RESUME = 7;
+    /* a: the flags sent, b: the number of subscriptions they were sent to. */
+    static final int TYPE_STATUS = 8;
+
+    static final String FORMAT_NDJSON = "ndjson";
+    static final String FORMAT_BINARY = "binary";
+    /* "MAJ" followed by the version of the binary format. */
+    private static final int BINARY_MAGIC = 0x4d414a01;
+
+    private static final String[] TYPE_NAMES = {
+        null, "listener", "settings", "action", "announcement", "textZoom", "pause", "resume", "status"
+    };
+    private static final String[] THREAD_NAMES = { "inline", "ui", "pool" };
+    private static final String[] FLAG_NAMES = {
+        "isScreenReaderRunning", "isClosedCaptioningEnabled", "isTouchExplorationEnabled"
+    };
+
+    private static final int MASK = CAPACITY - 1;
+
+    /* The longs of each slot in the ring. */
+    private static final int SEQUENCE = 0;
+    private static final int TIME = 1;
+    private static final int THREAD = 2;
+    private static final int TYPE = 3;
+    private static final int ARGUMENTS = 4;
+    private static final int SLOT_SIZE = 5;
+
+    private final AtomicLong mNext = new AtomicLong();
+    /*
+     * The slots, each holding the sequence number of its event plus one, 0 while it is written, then the
+     * time, the thread id, the type and both arguments packed in one long. Every field is atomic, so that a
+     * reader which sees the same sequence number before and after reading the fields has read that event.
+     */
+    private volatile AtomicLongArray mRing;
+    /* Names of actions, registered up front so that recording an action only stores an index. */
+    private final ArrayList<String> mNames = new ArrayList<String>();
+
+    /* Must be called before any event refers to the name. */
+    synchronized int addName(String name) {
+        mNames.add(name);
+        return mNames.size() - 1;
+    }
+
+    void record(int type, int a, int b) {
+        AtomicLongArray ring = getRing();
+        long sequence = mNext.getAndIncrement();
+        int slot = (int) (sequence & MASK) * SLOT_SIZE;
+        ring.set(slot + SEQUENCE, 0);
+        ring.set(slot + TIME, System.nanoTime());
+        ring.set(slot + THREAD, Thread.currentThread().getId());
+        ring.set(slot + TYPE, type);
+        ring.set(slot + ARGUMENTS, ((long) a << 32) | (b & 0xffffffffL));
+        ring.set(slot + SEQUENCE, sequence + 1);
+    }
+
+    private AtomicLongArray getRing() {
+        AtomicLongArray ring = mRing;
+        if (ring == null) {
+            synchronized (this) {
+                ring = mRing;
+                if (ring == null) {
+                    ring = new AtomicLongArray(CAPACITY * SLOT_SIZE);
+                    mRing = ring;
+                }
+            }
+        }
+        return ring;
+    }
+
+    /* Copies the fields of the event into the event array, unless the slot no longer holds it. */
+    private static boolean read(AtomicLongArray ring, long sequence, long[] event) {
+        int slot = (int) (sequence & MASK) * SLOT_SIZE;
+        if (ring.get(slot + SEQUENCE) != sequence + 1) {
+            return false;
+        }
+        for (int i = TIME; i < SLOT_SIZE; i++) {
+            event[i] = ring.get(slot + i);
+        }
+        return ring.get(slot + SEQUENCE) == sequence + 1;
+    }
+
+    /**
+     * Writes the events still in the journal, oldest first, to the file. Events overwritten while the
+     * journal is read are skipped. Returns the path of the file and the number of events written.
+     */
+    JSONObject export(File file, String format) throws IOException, JSONException {
+        boolean binary = FORMAT_BINARY.equals(format);
+        String[] names;
+        synchronized (this) {
+            names = mNames.toArray(new String[mNames.size()]);
+        }
+        AtomicLongArray ring = mRing;
+        long end = ring != null ? mNext.get() : 0;
+        long start = Math.max(0, end - CAPACITY);
+        long[] event = new long[SLOT_SIZE];
+        int written = 0;
+        FileOutputStream stream = new FileOutputStream(file);
+        try {
+            if (binary) {
+                DataOutputStream output = new DataOutputStream(new BufferedOutputStream(stream));
+                output.writeInt(BINARY_MAGIC);
+                output.writeLong(System.currentTimeMillis());
+                output.writeLong(System.nanoTime());
+                output.writeInt(names.length);
+                for (String name : names) {
+                    output.writeUTF(name);
+                }
+                for (long sequence = start; sequence < end; sequence++) {
+                    if (!read(ring, sequence, event)) {
+                        continue;
+                    }
+                    output.writeLong(sequence);
+                    output.writeLong(event[TIME]);
+                    output.writeLong(event[THREAD]);
+                    output.writeByte((int) event[TYPE]);
+                    output.writeInt((int) (event[ARGUMENTS] >> 32));
+                    output.writeInt((int) event[ARGUMENTS]);
+                    written++;
+                }
+                output.flush();
+            } else {
+                Writer writer = new BufferedWriter(new OutputStreamWriter(stream, "UTF-8"));
+                writer.write("{\"type\":\"header\",\"capacity\":" + CAPACITY
+                        + ",\"currentTimeMillis\":" + System.currentTimeMillis()
+                        + ",\"nanoTime\":" + System.nanoTime() + "}\n");
+                StringBuilder line = new StringBuilder();
+                for (long sequence = start; sequence < end; sequence++) {
+                    if (!read(ring, sequence, event)) {
+                        continue;
+                    }
+                    int type = (int) event[TYPE];
+                    line.setLength(0);
+                    line.append("{\"seq\":").append(sequence)
+                            .append(",\"time\":").append(event[TIME])
+                            .append(",\"threadId\":").append(event[THREAD])
+                            .append(",\"type\":\"").append(TYPE_NAMES[type]).append('"');
+                    appendArguments(line, type, (int) (event[ARGUMENTS] >> 32), (int) event[ARGUMENTS], names);
+                    line.append("}\n");
+                    writer.write(line.toString());
+                    written++;
+                }
+                writer.flush();
+            }
+        } finally {
+            stream.close();
+        }
+        JSONObject result = new JSONObject();
+        result.put("path", file.getAbsolutePath());
+        result.put("format", binary ? FORMAT_BINARY : FORMAT_NDJSON);
+        result.put("events", written);
+        result.put("overwritten", start);
+        return result;
+    }
+
+    private static void appendArguments(StringBuilder line, int type, int a, int b, String[] names) {
+        switch (type) {
+        case TYPE_LISTENER:
+            line.append(",\"flag\":\"").append(getFlagName(a)).append("\",\"enabled\":").append(b != 0);
+            break;
+        case TYPE_SETTINGS:
+            line.append(",\"flags\":").append(a);
+            break;
+        case TYPE_ACTION:
+            line.append(",\"action\":").append(JSONObject.quote(a < names.length ? names[a] : String.valueOf(a)))
+                    .append(",\"runsOn\":\"").append(b < THREAD_NAMES.length ? THREAD_NAMES[b] : String.valueOf(b))
+                    .append('"');
+            break;
+        case TYPE_ANNOUNCEMENT:
+            line.append(",\"length\":").append(a).append(",\"count\":").append(b);
+            break;
+        case TYPE_TEXT_ZOOM:
+            line.append(",\"textZoom\":").append(a);
+            break;
+        case TYPE_PAUSE:
+            line.append(",\"multitasking\":").append(a != 0);
+            break;
+        case TYPE_STATUS:
+            line.append(",\"flags\":").append(a).append(",\"subscriptions\":").append(b);
+            break;
+        }
+    }
+
+    private static String getFlagName(int flag) {
+        for (int i = 0; i < FLAG_NAMES.length; i++) {
+            if (flag == 1 << i) {
+                return FLAG_NAMES[i];
+            }
+        }
+        return String.valueOf(flag);
+    }
+}
@@ -0,0 +1,125 @@
+/**
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+
+package com.phonegap.plugin.mobileaccessibility;
+
+import org.apache.cordova.CallbackContext;
+import org.apache.cordova.PluginResult;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import android.content.ComponentCallbacks;
+import android.content.Context;
+import android.content.res.Configuration;
+import android.os.Build;
+
+/**
+ * While the preferred text zoom is in use, watches the system font scale and applies the matching text
+ * zoom natively, notifying JavaScript only when the font scale has actually changed.
+ */
+class FontScaleWatcher implements ComponentCallbacks {
+    private final Context mContext;
+    private final TextZoomApplier mTextZoomApplier;
+    private float mFontScale;
+    private CallbackContext mCallbackContext = null;
+    private boolean mRegistered = false;
+
+    FontScaleWatcher(Context context, TextZoomApplier textZoomApplier) {
+        mContext = context;
+        mTextZoomApplier = textZoomApplier;
+    }
+
+    static double toTextZoom(float fontScale) {
+        return Math.round(fontScale * 100);
+    }
+
+    float getFontScale() {
+        return mContext.getResources().getConfiguration().fontScale;
+    }
+
+    /**
+     * Applies the text zoom matching the current font scale, then keeps it up to date. The callback receives
+     * the new text zoom and font scale after each change.
+     */
+    synchronized void start(CallbackContext callbackContext) {
+        releaseCallback();
+        mCallbackContext = callbackContext;
+        mFontScale = getFontScale();
+        if (!mRegistered && Build.VERSION.SDK_INT >= Build.VERSION_CODES.ICE_CREAM_SANDWICH) {
+            mContext.registerComponentCallbacks(this);
+            mRegistered = true;
+        }
+        mTextZoomApplier.request(toTextZoom(mFontScale), null);
+    }
+
+    synchronized void stop() {
+        releaseCallback();
+        if (mRegistered) {
+            mContext.unregisterComponentCallbacks(this);
+            mRegistered = false;
+        }
+    }
+
+    /* Also called on resume, which is the only notification before Ice Cream Sandwich. */
+    void check() {
+        onFontScaleChanged(getFontScale());
+    }
+
+    @Override
+    public void onConfigurationChanged(Configuration newConfig) {
+        onFontScaleChanged(newConfig.fontScale);
+    }
+
+    @Override
+    public void onLowMemory() {
+    }
+
+    private void onFontScaleChanged(float fontScale) {
+        CallbackContext callbackContext;
+        synchronized (this) {
+            if (mCallbackContext == null || fontScale == mFontScale) {
+                return;
+            }
+            mFontScale = fontScale;
+            callbackContext = mCallbackContext;
+        }
+        double textZoom = toTextZoom(fontScale);
+        mTextZoomApplier.request(textZoom, null);
+        JSONObject info = new JSONObject();
+        try {
+            info.put("textZoom", (int) textZoom);
+            info.put("fontScale", fontScale);
+        } catch (JSONException e) {
+            e.printStackTrace();
+        }
+        PluginResult result = new PluginResult(PluginResult.Status.OK, info);
+        result.setKeepCallback(true);
+        callbackContext.sendPluginResult(result);
+    }
+
+    /* Lets the bridge drop the previous callback, without calling it. */
+    private void releaseCallback() {
+        if (mCallbackContext != null) {
+            mCallbackContext.sendPluginResult(new PluginResult(PluginResult.Status.NO_RESULT));
+            mCallbackContext = null;
+        }
+    }
+}
@@ -24,81 +24,97 @@ package com.phonegap.plugin.mobileaccessibility;
 import android.accessibilityservice.AccessibilityServiceInfo;
 import android.annotation.TargetApi;
 import android.os.Build;
-import android.view.accessibility.AccessibilityManager.AccessibilityStateChangeListener;
-
-import java.lang.IllegalAccessException;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 
 @TargetApi(Build.VERSION_CODES.ICE_CREAM_SANDWICH)
 public class IceCreamSandwichMobileAccessibilityHelper extends
         DonutMobileAccessibilityHelper {
-    private AccessibilityStateChangeListener mAccessibilityStateChangeListener;
+    /* Only kept while the state change listener is registered, which invalidates it. */
+    private volatile AccessibilityServiceIndex mServiceIndex;
+    private volatile boolean mKeepServiceIndex = false;
+    private int mServiceIndexGeneration = 0;
 
     @Override
     public boolean isScreenReaderRunning() {
-        return mAccessibilityManager.getEnabledAccessibilityServiceList(AccessibilityServiceInfo.FEEDBACK_SPOKEN).size() > 0;
+        return hasEnabledFeedbackType(AccessibilityServiceInfo.FEEDBACK_SPOKEN);
+    }
+
+    /* Only builds the index when it is kept, otherwise asks the system for the services of these feedback types. */
+    boolean hasEnabledFeedbackType(int feedbackTypes) {
+        AccessibilityServiceIndex serviceIndex = mServiceIndex;
+        if (serviceIndex != null) {
+            return serviceIndex.hasFeedbackType(feedbackTypes);
+        }
+        if (!mKeepServiceIndex) {
+            return getAccessibilityManager().getEnabledAccessibilityServiceList(feedbackTypes).size() > 0;
+        }
+        return getServiceIndex().hasFeedbackType(feedbackTypes);
     }
 
     @Override
-    public void addStateChangeListeners() {
-        if (mAccessibilityStateChangeListener == null) {
-            mAccessibilityStateChangeListener = new InternalAccessibilityStateChangeListener();
+    public AccessibilityServiceIndex getServiceIndex() {
+        AccessibilityServiceIndex serviceIndex = mServiceIndex;
+        if (serviceIndex != null) {
+            return serviceIndex;
+        }
+        int generation;
+        synchronized (this) {
+            generation = mServiceIndexGeneration;
         }
-        mAccessibilityManager.addAccessibilityStateChangeListener(mAccessibilityStateChangeListener);
+        serviceIndex = new AccessibilityServiceIndex(getAccessibilityManager()
+                .getEnabledAccessibilityServiceList(AccessibilityServiceInfo.FEEDBACK_ALL_MASK));
+        synchronized (this) {
+            // Not kept if the services changed while the list was read.
+            if (mKeepServiceIndex && generation == mServiceIndexGeneration) {
+                mServiceIndex = serviceIndex;
+            }
+        }
+        return serviceIndex;
     }
 
     @Override
-    public void removeStateChangeListeners() {
-        mAccessibilityManager.removeAccessibilityStateChangeListener(mAccessibilityStateChangeListener);
-        mAccessibilityStateChangeListener = null;
+    public synchronized void invalidateServiceIndex() {
+        mServiceIndexGeneration++;
+        mServiceIndex = null;
     }
 
     @Override
-    public double getTextZoom() {
-        double zoom = 100;
-        try {
-            Method getSettings = mView.getClass().getMethod("getSettings");
-            Object wSettings = getSettings.invoke(mView);
-            Method getTextZoom = wSettings.getClass().getMethod("getTextZoom");
-            zoom = Double.valueOf(getTextZoom.invoke(wSettings).toString());
-        } catch (ClassCastException ce) {
-            ce.printStackTrace();
-        } catch (NoSuchMethodException e) {
-            e.printStackTrace();
-        } catch (InvocationTargetException e) {
-            e.printStackTrace();
-        } catch (IllegalAccessException e) {
-            e.printStackTrace();
+    public void onAccessibilityStateChanged(boolean enabled) {
+        invalidateServiceIndex();
+        super.onAccessibilityStateChanged(enabled);
+    }
+
+    /* The system listener is shared with the other WebViews through the AccessibilityListenerRegistry. */
+    @Override
+    public void addStateChangeListeners() {
+        invalidateServiceIndex();
+        synchronized (this) {
+            mKeepServiceIndex = true;
         }
-        return zoom;
+        getListenerRegistry().addAccessibilityStateListener(this);
     }
 
     @Override
-    public void setTextZoom(double textZoom) {
-        //Log.i("MobileAccessibility", "setTextZoom(" + zoom + ")");
-        try {
-            Method getSettings = mView.getClass().getMethod("getSettings");
-            Object wSettings = getSettings.invoke(mView);
-            Method setTextZoom = wSettings.getClass().getMethod("setTextZoom", Integer.TYPE);
-            setTextZoom.invoke(wSettings, (int) textZoom);
-        } catch (ClassCastException ce) {
-            ce.printStackTrace();
-        } catch (NoSuchMethodException e) {
-            e.printStackTrace();
-        } catch (InvocationTargetException e) {
-            e.printStackTrace();
-        } catch (IllegalAccessException e) {
-            e.printStackTrace();
+    public void removeStateChangeListeners() {
+        getListenerRegistry().removeAccessibilityStateListener(this);
+        synchronized (this) {
+            mKeepServiceIndex = false;
         }
+        invalidateServiceIndex();
     }
 
-    private class InternalAccessibilityStateChangeListener
-        implements AccessibilityStateChangeListener {
+    @Override
+    public boolean isStateChangeListenerSupported() {
+        return true;
+    }
 
-        @Override
-        public void onAccessibilityStateChanged(boolean enabled) {
-            mMobileAccessibility.onAccessibilityStateChanged(enabled);
-        }
+    @Override
+    public double getTextZoom() {
+        return getWebSettings().getTextZoom();
+    }
+
+    @Override
+    public void setTextZoom(double textZoom) {
+        //Log.i("MobileAccessibility", "setTextZoom(" + zoom + ")");
+        getWebSettings().setTextZoom((int) textZoom);
     }
 }
@@ -21,32 +21,55 @@
 
 package com.phonegap.plugin.mobileaccessibility;
 
-import com.phonegap.plugin.mobileaccessibility.MobileAccessibility;
-
 import android.annotation.TargetApi;
 import android.os.Build;
+import android.view.View;
+import android.view.ViewParent;
 import android.view.accessibility.AccessibilityEvent;
 
 @TargetApi(Build.VERSION_CODES.JELLY_BEAN)
 public class JellyBeanMobileAccessibilityHelper extends
         IceCreamSandwichMobileAccessibilityHelper {
+    private ViewParent mParent;
+    /* Only used on the UI thread. */
+    private AccessibilityEvent mAnnouncementTemplate;
 
-    @Override
-    public void initialize(MobileAccessibility mobileAccessibility) {
-        super.initialize(mobileAccessibility);
-        mParent = mView.getParentForAccessibility();
+    /* Called on the UI thread. Resolved again until the view has a parent. */
+    ViewParent getParentForAccessibility() {
+        if (mParent == null) {
+            mParent = getView().getParentForAccessibility();
+        }
+        return mParent;
     }
 
     @Override
     public void announceForAccessibility(CharSequence text) {
-        if (mAccessibilityManager.isEnabled() && mParent != null) {
-            mAccessibilityManager.interrupt();
-            AccessibilityEvent event = AccessibilityEvent.obtain(
-                    AccessibilityEvent.TYPE_ANNOUNCEMENT);
-            mView.onInitializeAccessibilityEvent(event);
-            event.getText().add(text);
-            event.setContentDescription(null);
-            mParent.requestSendAccessibilityEvent(mView, event);
+        if (!getAccessibilityManager().isEnabled()) {
+            return;
+        }
+        ViewParent parent = getParentForAccessibility();
+        if (parent != null) {
+            parent.requestSendAccessibilityEvent(getView(), createAnnouncementEvent(text));
+        }
+    }
+
+    /**
+     * Copies an event initialized once by the view, which is only initialized again when the view
+     * has been enabled or disabled since.
+     */
+    @Override
+    public AccessibilityEvent createAnnouncementEvent(CharSequence text) {
+        View view = getView();
+        if (mAnnouncementTemplate == null || mAnnouncementTemplate.isEnabled() != view.isEnabled()) {
+            if (mAnnouncementTemplate != null) {
+                mAnnouncementTemplate.recycle();
+            }
+            mAnnouncementTemplate = AccessibilityEvent.obtain(AccessibilityEvent.TYPE_ANNOUNCEMENT);
+            view.onInitializeAccessibilityEvent(mAnnouncementTemplate);
+            mAnnouncementTemplate.setContentDescription(null);
         }
+        AccessibilityEvent event = AccessibilityEvent.obtain(mAnnouncementTemplate);
+        event.getText().add(text);
+        return event;
     }
 }
@@ -24,76 +24,59 @@ package com.phonegap.plugin.mobileaccessibility;
 import android.accessibilityservice.AccessibilityServiceInfo;
 import android.annotation.TargetApi;
 import android.content.Context;
-import android.view.accessibility.AccessibilityManager.TouchExplorationStateChangeListener;
 import android.view.accessibility.CaptioningManager;
-import android.view.accessibility.CaptioningManager.CaptioningChangeListener;
 
 @TargetApi(19)
 public class KitKatMobileAccessibilityHelper extends
         JellyBeanMobileAccessibilityHelper {
-    private CaptioningManager mCaptioningManager;
-    private CaptioningChangeListener mCaptioningChangeListener;
-    private TouchExplorationStateChangeListener mTouchExplorationStateChangeListener;
+    private volatile CaptioningManager mCaptioningManager;
 
     @Override
-    public void initialize(MobileAccessibility mobileAccessibility) {
-        super.initialize(mobileAccessibility);
-        mCaptioningManager = (CaptioningManager) mobileAccessibility.cordova.getActivity().getSystemService(Context.CAPTIONING_SERVICE);
+    public void prewarm() {
+        super.prewarm();
+        getCaptioningManager();
+    }
+
+    CaptioningManager getCaptioningManager() {
+        CaptioningManager captioningManager = mCaptioningManager;
+        if (captioningManager == null) {
+            synchronized (this) {
+                captioningManager = mCaptioningManager;
+                if (captioningManager == null) {
+                    captioningManager = (CaptioningManager) mMobileAccessibility.cordova.getActivity().getSystemService(Context.CAPTIONING_SERVICE);
+                    mCaptioningManager = captioningManager;
+                }
+            }
+        }
+        return captioningManager;
     }
 
     @Override
     public boolean isScreenReaderRunning() {
-        return mAccessibilityManager.getEnabledAccessibilityServiceList(AccessibilityServiceInfo.FEEDBACK_BRAILLE | AccessibilityServiceInfo.FEEDBACK_SPOKEN).size() > 0;
+        return hasEnabledFeedbackType(AccessibilityServiceInfo.FEEDBACK_BRAILLE | AccessibilityServiceInfo.FEEDBACK_SPOKEN);
     }
 
     @Override
     public boolean isClosedCaptioningEnabled() {
-        return mCaptioningManager.isEnabled();
+        return getCaptioningManager().isEnabled();
     }
 
     @Override
     public boolean isTouchExplorationEnabled() {
-        return mAccessibilityManager.isTouchExplorationEnabled();
+        return getAccessibilityManager().isTouchExplorationEnabled();
     }
 
     @Override
     public void addStateChangeListeners() {
         super.addStateChangeListeners();
-        if (mCaptioningChangeListener == null) {
-            mCaptioningChangeListener = new CaptioningChangeListener() {
-                @Override
-                public void onEnabledChanged(boolean enabled) {
-                    onCaptioningEnabledChanged(enabled);
-                }
-            };
-        }
-        mCaptioningManager.addCaptioningChangeListener(mCaptioningChangeListener);
-
-        if (mTouchExplorationStateChangeListener == null) {
-            mTouchExplorationStateChangeListener = new InternalTouchExplorationStateChangeListener();
-        }
-        mAccessibilityManager.addTouchExplorationStateChangeListener(mTouchExplorationStateChangeListener);
+        getListenerRegistry().addCaptioningListener(this);
+        getListenerRegistry().addTouchExplorationListener(this);
     }
 
     @Override
     public void removeStateChangeListeners() {
         super.removeStateChangeListeners();
-        if (mCaptioningChangeListener != null) {
-            mCaptioningManager.removeCaptioningChangeListener(mCaptioningChangeListener);
-            mCaptioningChangeListener = null;
-        }
-        if (mTouchExplorationStateChangeListener != null) {
-            mAccessibilityManager.removeTouchExplorationStateChangeListener(mTouchExplorationStateChangeListener);
-            mTouchExplorationStateChangeListener = null;
-        }
-    }
-
-    private class InternalTouchExplorationStateChangeListener
-        implements TouchExplorationStateChangeListener {
-
-        @Override
-        public void onTouchExplorationStateChanged(boolean enabled) {
-            mMobileAccessibility.onTouchExplorationStateChanged(enabled);
-        }
+        getListenerRegistry().removeCaptioningListener(this);
+        getListenerRegistry().removeTouchExplorationListener(this);
     }
 }
@@ -0,0 +1,115 @@
+/**
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+
+package com.phonegap.plugin.mobileaccessibility;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Latency histogram with fixed power-of-two buckets in microseconds. Bucket 0 counts durations below
+ * 1 microsecond and bucket i counts durations from 2^(i-1) up to 2^i microseconds, the last bucket
+ * holding everything longer. Recording is lock-free and does not allocate.
+ */
+final class LatencyHistogram {
+    static final int BUCKET_COUNT = 32;
+
+    private final AtomicLongArray mBuckets = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong mCount = new AtomicLong();
+    private final AtomicLong mTotalMicros = new AtomicLong();
+    private final AtomicLong mMaxMicros = new AtomicLong();
+
+    void record(long nanos) {
+        long micros = Math.max(0, nanos / 1000);
+        int bucket = Math.min(BUCKET_COUNT - 1, 64 - Long.numberOfLeadingZeros(micros));
+        mBuckets.incrementAndGet(bucket);
+        mCount.incrementAndGet();
+        mTotalMicros.addAndGet(micros);
+        long max = mMaxMicros.get();
+        while (micros > max && !mMaxMicros.compareAndSet(max, micros)) {
+            max = mMaxMicros.get();
+        }
+    }
+
+    long getCount() {
+        return mCount.get();
+    }
+
+    /* Not atomic with respect to concurrent records, which may be partly kept. */
+    void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            mBuckets.set(i, 0);
+        }
+        mCount.set(0);
+        mTotalMicros.set(0);
+        mMaxMicros.set(0);
+    }
+
+    /**
+     * Percentiles are the upper bound of the bucket holding them, capped at the largest recorded
+     * duration. All values are in microseconds.
+     */
+    JSONObject toJSON() throws JSONException {
+        long[] buckets = new long[BUCKET_COUNT];
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets[i] = mBuckets.get(i);
+            count += buckets[i];
+        }
+        long max = mMaxMicros.get();
+        JSONObject histogram = new JSONObject();
+        histogram.put("count", count);
+        histogram.put("mean", count > 0 ? (double) mTotalMicros.get() / count : 0);
+        histogram.put("max", max);
+        histogram.put("p50", percentile(buckets, count, 0.5, max));
+        histogram.put("p90", percentile(buckets, count, 0.9, max));
+        histogram.put("p99", percentile(buckets, count, 0.99, max));
+        JSONArray bucketCounts = new JSONArray();
+        int last = BUCKET_COUNT - 1;
+        while (last > 0 && buckets[last] == 0) {
+            last--;
+        }
+        for (int i = 0; i <= last; i++) {
+            bucketCounts.put(buckets[i]);
+        }
+        histogram.put("buckets", bucketCounts);
+        return histogram;
+    }
+
+    private static long percentile(long[] buckets, long count, double fraction, long max) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(count * fraction);
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += buckets[i];
+            if (seen >= rank) {
+                return Math.min(1L << i, max);
+            }
+        }
+        return max;
+    }
+}
@@ -31,85 +31,341 @@ import org.json.JSONException;
 import org.json.JSONObject;
 
 import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
+import android.view.View;
 import android.webkit.WebView;
 
+import java.io.File;
+import java.io.IOException;
 import java.lang.IllegalAccessException;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * This class provides information on the status of native accessibility services to JavaScript.
  */
 public class MobileAccessibility extends CordovaPlugin {
+    private static final String[] UNAVAILABLE_FLAG_ACTIONS = {
+        "isDarkerSystemColorsEnabled",
+        "isGuidedAccessEnabled",
+        "isMonoAudioEnabled",
+        "isReduceTransparencyEnabled",
+        "isSpeakScreenEnabled",
+        "isSpeakSelectionEnabled",
+        "isSwitchControlRunning"
+    };
+    private static final PluginResult FLAG_UNAVAILABLE_RESULT = new PluginResult(PluginResult.Status.OK, 0);
+    private static final String DEFAULT_SUBSCRIPTION_ID = "status";
+
+    private final HashMap<String, ActionHandler> mActionHandlers = new HashMap<String, ActionHandler>();
     private AbstractMobileAccessibilityHelper mMobileAccessibilityHelper;
-    private CallbackContext mCallbackContext = null;
-    private boolean mIsScreenReaderRunning = false;
-    private boolean mClosedCaptioningEnabled = false;
-    private boolean mTouchExplorationEnabled = false;
-    private boolean mCachedIsScreenReaderRunning = false;
-    private float mFontScale = 1;
+    private final ConcurrentHashMap<String, StatusSubscription> mSubscriptions =
+            new ConcurrentHashMap<String, StatusSubscription>();
+    private final AtomicReference<MobileAccessibilityState> mState =
+            new AtomicReference<MobileAccessibilityState>(MobileAccessibilityState.INITIAL);
+    private volatile boolean mListenersRegistered = false;
+    private volatile boolean mJsonStatus = false;
+    private StatusChangeDispatcher mStatusChangeDispatcher;
+    private AnnouncementQueue mAnnouncementQueue;
+    private StatusSnapshotStore mStatusSnapshotStore;
+    private TextZoomApplier mTextZoomApplier;
+    private FontScaleWatcher mFontScaleWatcher;
+    private AccessibilityListenerRegistry mListenerRegistry;
+    private final AccessibilitySettingsObserver.OnSettingsChangeListener mSettingsListener =
+            new AccessibilitySettingsObserver.OnSettingsChangeListener() {
+                public void onSettingsChanged(int flags) {
+                    MobileAccessibility.this.onSettingsChanged(flags);
+                }
+            };
+    private Handler mMainHandler;
+    /* The id of the WebView of this plugin in the registry. */
+    private volatile String mWebViewId;
+    private AccessibilityListenerRegistry.WebViewTarget mOwnWebViewTarget;
+    private volatile boolean mCachedIsScreenReaderRunning = false;
+    private volatile boolean mReloadOnScreenReaderActivation = true;
+    private volatile boolean mSuspendListenersWhilePaused = true;
+    private volatile boolean mPaused = false;
+    /* Set while the app is paused with the listeners suspended. Guarded by mSubscriptions. */
+    private boolean mListenersSuspended = false;
+    private final MobileAccessibilityMetrics mMetrics = new MobileAccessibilityMetrics();
+    private final EventJournal mJournal = new EventJournal();
+    private final MobileAccessibilityTracer mTracer = new MobileAccessibilityTracer();
+    /* The last flags sent, saved on the thread pool by saveFlags. */
+    private volatile int mFlagsToSave;
+    private final AtomicBoolean mFlagsSaveScheduled = new AtomicBoolean(false);
 
     @Override
     public void initialize(CordovaInterface cordova, CordovaWebView webView) {
+        long start = System.nanoTime();
         super.initialize(cordova, webView);
+        mMobileAccessibilityHelper = createMobileAccessibilityHelper();
+        mMobileAccessibilityHelper.initialize(this);
+        mMainHandler = new Handler(Looper.getMainLooper());
+        mStatusChangeDispatcher = new StatusChangeDispatcher(mMainHandler, mState,
+                new StatusChangeDispatcher.OnDispatchListener() {
+                    public int onDispatch(MobileAccessibilityState state) {
+                        return sendMobileAccessibilityStatusChangedCallback(state);
+                    }
+                }, mTracer);
+        mStatusSnapshotStore = new StatusSnapshotStore(cordova.getActivity().getApplicationContext());
+        mTextZoomApplier = new TextZoomApplier(mMobileAccessibilityHelper, mStatusSnapshotStore, mMainHandler, mJournal);
+        mFontScaleWatcher = new FontScaleWatcher(cordova.getActivity().getApplicationContext(), mTextZoomApplier);
+        mAnnouncementQueue = new AnnouncementQueue(this, mMobileAccessibilityHelper, mMetrics.announcements, mJournal);
+        mListenerRegistry = AccessibilityListenerRegistry.getInstance(cordova.getActivity());
+        mOwnWebViewTarget = new AccessibilityListenerRegistry.WebViewTarget(mMobileAccessibilityHelper, mTextZoomApplier);
+        mWebViewId = mListenerRegistry.nextWebViewId();
+        registerOwnWebView();
+        registerActionHandlers();
+        for (Map.Entry<String, ActionHandler> entry : mActionHandlers.entrySet()) {
+            mMetrics.addAction(entry.getKey());
+            entry.getValue().journalName = mJournal.addName(entry.getKey());
+        }
+        mMetrics.initialize.record(System.nanoTime() - start);
+    }
+
+    /**
+     * Registers a WebView of the app which is not a Cordova WebView, such as an in-app browser, so that the
+     * pages of Cordova WebViews can target it with text zoom and announcements. Only a weak reference is
+     * kept, but a WebView which has been targeted stays reachable until it is unregistered.
+     */
+    public static void registerWebView(String id, View webView) {
+        AccessibilityListenerRegistry.getInstance(webView.getContext())
+                .registerWebView(id, new AccessibilityListenerRegistry.WebViewTarget(webView, null, null, null));
+    }
+
+    public static void unregisterWebView(String id, View webView) {
+        AccessibilityListenerRegistry.getInstance(webView.getContext()).unregisterWebView(id, webView);
+    }
+
+    /* The helper only resolves the view and the system services it needs on first use. */
+    static AbstractMobileAccessibilityHelper createMobileAccessibilityHelper() {
         if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.KITKAT) {
-            mMobileAccessibilityHelper = new KitKatMobileAccessibilityHelper();
+            return new KitKatMobileAccessibilityHelper();
         } else if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN) {
-            mMobileAccessibilityHelper = new JellyBeanMobileAccessibilityHelper();
+            return new JellyBeanMobileAccessibilityHelper();
         } else if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.ICE_CREAM_SANDWICH) {
-            mMobileAccessibilityHelper = new IceCreamSandwichMobileAccessibilityHelper();
+            return new IceCreamSandwichMobileAccessibilityHelper();
         } else {
-            mMobileAccessibilityHelper = new DonutMobileAccessibilityHelper();
+            return new DonutMobileAccessibilityHelper();
         }
-        mMobileAccessibilityHelper.initialize(this);
     }
 
     @Override
-    public boolean execute(String action, JSONArray args, CallbackContext callbackContext) throws JSONException {
+    public boolean execute(final String action, final JSONArray args, final CallbackContext callbackContext) throws JSONException {
+        final ActionHandler handler = mActionHandlers.get(action);
+        if (handler == null) {
+            return false;
+        }
+        final int thread = handler.getThread();
+        mJournal.record(EventJournal.TYPE_ACTION, handler.journalName, thread);
+        final MobileAccessibilityMetrics.ActionMetrics metrics = mMetrics.getAction(action);
+        final long queued = System.nanoTime();
+        switch (thread) {
+        case ActionHandler.THREAD_UI:
+            cordova.getActivity().runOnUiThread(new Runnable() {
+                public void run() {
+                    runActionHandler(action, thread, handler, args, callbackContext, metrics, queued);
+                }
+            });
+            break;
+        case ActionHandler.THREAD_POOL:
+            cordova.getThreadPool().execute(new Runnable() {
+                public void run() {
+                    runActionHandler(action, thread, handler, args, callbackContext, metrics, queued);
+                }
+            });
+            break;
+        default:
+            runActionHandler(action, thread, handler, args, callbackContext, metrics, queued);
+            break;
+        }
+        return true;
+    }
+
+    private void runActionHandler(String action, int thread, ActionHandler handler, JSONArray args,
+            CallbackContext callbackContext, MobileAccessibilityMetrics.ActionMetrics metrics, long queued) {
+        long start = System.nanoTime();
+        metrics.queueWait.record(start - queued);
         try {
-            if (action.equals("isScreenReaderRunning")) {
-                isScreenReaderRunning(callbackContext);
-                return true;
-            } else if (action.equals("isClosedCaptioningEnabled")) {
-                isClosedCaptioningEnabled(callbackContext);
-                return true;
-            } else if (action.equals("isTouchExplorationEnabled")) {
-                isTouchExplorationEnabled(callbackContext);
-                return true;
-            } else if (action.equals("postNotification")) {
+            handler.execute(args, callbackContext);
+        } catch (JSONException e) {
+            e.printStackTrace();
+            callbackContext.sendPluginResult(new PluginResult(PluginResult.Status.JSON_EXCEPTION));
+        }
+        long end = System.nanoTime();
+        metrics.run.record(end - start);
+        if (mTracer.isEnabled()) {
+            mTracer.onRequest(action, thread, start - queued, end - start);
+        }
+    }
+
+    private void registerActionHandlers() {
+        mActionHandlers.put("isScreenReaderRunning", new FlagActionHandler(MobileAccessibilityState.SCREEN_READER_RUNNING));
+        mActionHandlers.put("isClosedCaptioningEnabled", new FlagActionHandler(MobileAccessibilityState.CLOSED_CAPTIONING_ENABLED));
+        mActionHandlers.put("isTouchExplorationEnabled", new FlagActionHandler(MobileAccessibilityState.TOUCH_EXPLORATION_ENABLED));
+        mActionHandlers.put("isHighContrastEnabled", new FlagActionHandler(MobileAccessibilityState.HIGH_CONTRAST_ENABLED));
+        mActionHandlers.put("isReduceMotionEnabled", new FlagActionHandler(MobileAccessibilityState.REDUCE_MOTION_ENABLED));
+        mActionHandlers.put("isInvertColorsEnabled", new FlagActionHandler(MobileAccessibilityState.INVERT_COLORS_ENABLED));
+        mActionHandlers.put("isGrayscaleEnabled", new FlagActionHandler(MobileAccessibilityState.GRAYSCALE_ENABLED));
+        mActionHandlers.put("isBoldTextEnabled", new FlagActionHandler(MobileAccessibilityState.BOLD_TEXT_ENABLED));
+        mActionHandlers.put("getEnabledServices", new StateQueryHandler() {
+            void execute(JSONArray args, CallbackContext callbackContext) throws JSONException {
+                callbackContext.success(mMobileAccessibilityHelper.getServiceIndex().getServices());
+            }
+        });
+        mActionHandlers.put("isServiceEnabled", new StateQueryHandler() {
+            void execute(JSONArray args, CallbackContext callbackContext) throws JSONException {
+                boolean enabled = mMobileAccessibilityHelper.getServiceIndex()
+                        .isServiceEnabled(args.getString(0), args.optInt(1, 0));
+                callbackContext.success(enabled ? 1 : 0);
+            }
+        });
+        mActionHandlers.put("postNotification", new ActionHandler(ActionHandler.THREAD_INLINE) {
+            void execute(JSONArray args, CallbackContext callbackContext) throws JSONException {
                 if (args.length() > 1) {
                     String string = args.getString(1);
                     if (!string.isEmpty()) {
-                        announceForAccessibility(string, callbackContext);
+                        String webViewId = args.optString(4, "");
+                        AccessibilityListenerRegistry.WebViewTarget target = null;
+                        if (!isOwnWebView(webViewId)) {
+                            target = getWebViewTarget(webViewId);
+                            if (target == null) {
+                                callbackContext.error("Unknown WebView: " + webViewId);
+                                return;
+                            }
+                        }
+                        mAnnouncementQueue.enqueue(string,
+                                args.optInt(2, AnnouncementQueue.QUEUE_MODE_QUEUE),
+                                args.optInt(3, 0),
+                                callbackContext,
+                                target != null ? target.helper : null);
                     }
                 }
-                return true;
-            } else if(action.equals("getTextZoom")) {
-                getTextZoom(callbackContext);
-                return true;
-            } else if(action.equals("setTextZoom")) {
+            }
+        });
+        mActionHandlers.put("getStatusSnapshot", new ActionHandler(ActionHandler.THREAD_POOL) {
+            void execute(JSONArray args, CallbackContext callbackContext) throws JSONException {
+                getStatusSnapshot(args.optBoolean(0, false), callbackContext);
+            }
+        });
+        mActionHandlers.put("getTextZoom", new ActionHandler(ActionHandler.THREAD_INLINE) {
+            void execute(JSONArray args, CallbackContext callbackContext) throws JSONException {
+                TextZoomApplier textZoomApplier = getTextZoomApplier(args.optString(0, ""), callbackContext);
+                if (textZoomApplier != null) {
+                    textZoomApplier.getTextZoom(callbackContext);
+                }
+            }
+        });
+        mActionHandlers.put("setTextZoom", new ActionHandler(ActionHandler.THREAD_INLINE) {
+            void execute(JSONArray args, CallbackContext callbackContext) throws JSONException {
                 if (args.length() > 0) {
                     double textZoom = args.getDouble(0);
-                    if (textZoom > 0) {
-                        setTextZoom(textZoom, callbackContext);
+                    TextZoomApplier textZoomApplier = getTextZoomApplier(args.optString(1, ""), callbackContext);
+                    if (textZoom > 0 && textZoomApplier != null) {
+                        textZoomApplier.request(textZoom, callbackContext);
                     }
                 }
-                return true;
-            } else if(action.equals("updateTextZoom")) {
+            }
+        });
+        mActionHandlers.put("updateTextZoom", new ActionHandler(ActionHandler.THREAD_INLINE) {
+            void execute(JSONArray args, CallbackContext callbackContext) throws JSONException {
                 updateTextZoom(callbackContext);
-                return true;
-            } else if (action.equals("start")) {
-                start(callbackContext);
-                return true;
-            } else if (action.equals("stop")) {
-                stop();
-                return true;
             }
-        } catch (JSONException e) {
-            e.printStackTrace();
-            callbackContext.sendPluginResult(new PluginResult(PluginResult.Status.JSON_EXCEPTION));
+        });
+        mActionHandlers.put("usePreferredTextZoom", new ActionHandler(ActionHandler.THREAD_INLINE) {
+            void execute(JSONArray args, CallbackContext callbackContext) throws JSONException {
+                if (args.optBoolean(0, true)) {
+                    mFontScaleWatcher.start(callbackContext);
+                } else {
+                    mFontScaleWatcher.stop();
+                    mTextZoomApplier.request(WebSettingsAccessor.DEFAULT_TEXT_ZOOM, null);
+                    callbackContext.success();
+                }
+            }
+        });
+        mActionHandlers.put("start", new ActionHandler(ActionHandler.THREAD_INLINE) {
+            void execute(JSONArray args, CallbackContext callbackContext) throws JSONException {
+                start(args.optString(0, DEFAULT_SUBSCRIPTION_ID), args.optInt(1, StatusSubscription.ALL_FLAGS),
+                        callbackContext);
+            }
+        });
+        mActionHandlers.put("stop", new ActionHandler(ActionHandler.THREAD_INLINE) {
+            void execute(JSONArray args, CallbackContext callbackContext) throws JSONException {
+                if (args.length() > 0) {
+                    stop(args.getString(0));
+                } else {
+                    stopAll();
+                }
+            }
+        });
+        mActionHandlers.put("configure", new ActionHandler(ActionHandler.THREAD_INLINE) {
+            void execute(JSONArray args, CallbackContext callbackContext) throws JSONException {
+                if (args.length() > 0) {
+                    configure(args.getJSONObject(0));
+                }
+                callbackContext.success();
+            }
+        });
+        mActionHandlers.put("getStatusEventStats", new ActionHandler(ActionHandler.THREAD_INLINE) {
+            void execute(JSONArray args, CallbackContext callbackContext) throws JSONException {
+                callbackContext.success(mStatusChangeDispatcher.getStats());
+            }
+        });
+        mActionHandlers.put("getMetrics", new ActionHandler(ActionHandler.THREAD_INLINE) {
+            void execute(JSONArray args, CallbackContext callbackContext) throws JSONException {
+                JSONObject metrics = mMetrics.toJSON();
+                metrics.put("statusEvents", mStatusChangeDispatcher.getStats());
+                metrics.put("systemListeners", mListenerRegistry.getStats());
+                callbackContext.success(metrics);
+            }
+        });
+        mActionHandlers.put("resetMetrics", new ActionHandler(ActionHandler.THREAD_INLINE) {
+            void execute(JSONArray args, CallbackContext callbackContext) throws JSONException {
+                mMetrics.reset();
+                mTracer.reset();
+                callbackContext.success();
+            }
+        });
+        mActionHandlers.put("getTraces", new ActionHandler(ActionHandler.THREAD_INLINE) {
+            void execute(JSONArray args, CallbackContext callbackContext) throws JSONException {
+                callbackContext.success(mTracer.toJSON());
+            }
+        });
+        mActionHandlers.put("getWebViews", new ActionHandler(ActionHandler.THREAD_INLINE) {
+            void execute(JSONArray args, CallbackContext callbackContext) throws JSONException {
+                JSONObject webViews = new JSONObject();
+                webViews.put("webViewId", mWebViewId);
+                webViews.put("webViews", mListenerRegistry.getWebViewIds());
+                callbackContext.success(webViews);
+            }
+        });
+        mActionHandlers.put("prewarm", new ActionHandler(ActionHandler.THREAD_POOL) {
+            void execute(JSONArray args, CallbackContext callbackContext) throws JSONException {
+                prewarm();
+                callbackContext.success();
+            }
+        });
+        mActionHandlers.put("exportJournal", new ActionHandler(ActionHandler.THREAD_POOL) {
+            void execute(JSONArray args, CallbackContext callbackContext) throws JSONException {
+                exportJournal(args.optString(0, EventJournal.FORMAT_NDJSON), callbackContext);
+            }
+        });
+
+        // Flags which are exposed by the JavaScript API but not available on Android.
+        // One handler per action, since each handler holds the journal name of its action.
+        for (String action : UNAVAILABLE_FLAG_ACTIONS) {
+            mActionHandlers.put(action, new ActionHandler(ActionHandler.THREAD_INLINE) {
+                void execute(JSONArray args, CallbackContext callbackContext) {
+                    callbackContext.sendPluginResult(FLAG_UNAVAILABLE_RESULT);
+                }
+            });
         }
-        return false;
     }
 
     /**
@@ -120,7 +376,17 @@ public class MobileAccessibility extends CordovaPlugin {
     @Override
     public void onPause(boolean multitasking) {
         //Log.i("MobileAccessibility", "onPause");
-        mCachedIsScreenReaderRunning = mIsScreenReaderRunning;
+        mJournal.record(EventJournal.TYPE_PAUSE, multitasking ? 1 : 0, 0);
+        mPaused = true;
+        mCachedIsScreenReaderRunning = mState.get().isScreenReaderRunning();
+        synchronized (mSubscriptions) {
+            if (mSuspendListenersWhilePaused && !mListenersSuspended) {
+                if (!mSubscriptions.isEmpty()) {
+                    removeStateChangeListeners();
+                }
+                mListenersSuspended = true;
+            }
+        }
     }
 
     /**
@@ -131,178 +397,597 @@ public class MobileAccessibility extends CordovaPlugin {
     @Override
     public void onResume(boolean multitasking) {
         //Log.i("MobileAccessibility", "onResume");
-        if (mIsScreenReaderRunning && !mCachedIsScreenReaderRunning) {
-            //Log.i("MobileAccessibility", "Reloading page on reload because the Accessibility State has changed.");
-            mCachedIsScreenReaderRunning = mIsScreenReaderRunning;
-            stop();
-            cordova.getActivity().runOnUiThread(new Runnable() {
-                public void run() {
-                    WebView view;
-                    try {
-                        view = (WebView) webView;
-                        view.reload();
-                    } catch(ClassCastException ce) {  // cordova-android 4.0+
-                        try {   // cordova-android 4.0+
-                            Method getView = webView.getClass().getMethod("getView");
-                            Method reload = getView.invoke(webView).getClass().getMethod("reload");
-                            reload.invoke(webView);
-                        } catch (NoSuchMethodException e) {
-                            e.printStackTrace();
-                        } catch (InvocationTargetException e) {
-                            e.printStackTrace();
-                        } catch (IllegalAccessException e) {
-                            e.printStackTrace();
-                        }
-                    }
-                }
-            });
+        mJournal.record(EventJournal.TYPE_RESUME, multitasking ? 1 : 0, 0);
+        mPaused = false;
+        mFontScaleWatcher.check();
+        MobileAccessibilityState resumedState = resumeStateChangeListeners();
+        boolean isScreenReaderRunning = isScreenReaderRunning();
+        if (isScreenReaderRunning && !mCachedIsScreenReaderRunning) {
+            mCachedIsScreenReaderRunning = isScreenReaderRunning;
+            if (mReloadOnScreenReaderActivation) {
+                //Log.i("MobileAccessibility", "Reloading page on reload because the Accessibility State has changed.");
+                stopAll();
+                reloadWebView();
+                return;
+            }
+            activateScreenReaderInPlace();
+            if (resumedState == null) {
+                reinitializeStatusListener();
+            }
+        }
+        if (resumedState != null) {
+            // A single status event carries every flag which changed while the app was paused.
+            sendMobileAccessibilityStatusChangedCallback(resumedState);
         }
     }
 
     /**
-     * The final call you receive before your activity is destroyed.
+     * Registers the listeners suspended by onPause again and queries the whole state at once. Returns null
+     * when the listeners were not suspended or there is no subscription.
      */
-    public void onDestroy() {
-        stop();
+    private MobileAccessibilityState resumeStateChangeListeners() {
+        synchronized (mSubscriptions) {
+            if (!mListenersSuspended) {
+                return null;
+            }
+            mListenersSuspended = false;
+            if (mSubscriptions.isEmpty()) {
+                return null;
+            }
+            long start = System.nanoTime();
+            addStateChangeListeners();
+            MobileAccessibilityState state = refreshState();
+            mListenersRegistered = mMobileAccessibilityHelper.isStateChangeListenerSupported();
+            mMetrics.resume.record(System.nanoTime() - start);
+            return state;
+        }
     }
 
-    private void isScreenReaderRunning(final CallbackContext callbackContext) {
-        mIsScreenReaderRunning = mMobileAccessibilityHelper.isScreenReaderRunning();
-        cordova.getThreadPool().execute(new Runnable() {
-            public void run() {
-                    callbackContext.success(mIsScreenReaderRunning ? 1 : 0);
-                }
-            });
+    /**
+     * Brings the subscriptions up to date after the screen reader was turned on while the app was paused,
+     * without navigating: the state change listeners are registered again and every subscription receives the
+     * current status.
+     */
+    private void reinitializeStatusListener() {
+        synchronized (mSubscriptions) {
+            if (mSubscriptions.isEmpty()) {
+                return;
+            }
+            mStatusChangeDispatcher.cancel();
+            mMobileAccessibilityHelper.removeStateChangeListeners();
+            addStateChangeListeners();
+            MobileAccessibilityState state = refreshState();
+            PluginResult result = createStatusResult(state, true);
+            for (StatusSubscription subscription : mSubscriptions.values()) {
+                sendStatus(subscription, state, result);
+            }
+        }
     }
 
-    protected boolean isScreenReaderRunning() {
-        mIsScreenReaderRunning = mMobileAccessibilityHelper.isScreenReaderRunning();
-        return mIsScreenReaderRunning;
+    /**
+     * Activates ChromeVox in the page, or injects the local AndroidVox script whatever the connectivity, since
+     * the WebView only injects ChromeVox itself when a page loads. Runs even when the page has no subscription.
+     */
+    private void activateScreenReaderInPlace() {
+        final String script = "javascript:window.MobileAccessibility"
+                + " && window.MobileAccessibility._activateScreenReaderInPlace"
+                + " && window.MobileAccessibility._activateScreenReaderInPlace();";
+        cordova.getActivity().runOnUiThread(new Runnable() {
+            public void run() {
+                WebView view;
+                try {
+                    view = (WebView) webView;
+                    view.loadUrl(script);
+                } catch(ClassCastException ce) {  // cordova-android 4.0+
+                    try {   // cordova-android 4.0+
+                        Method loadUrl = webView.getClass().getMethod("loadUrl", String.class);
+                        loadUrl.invoke(webView, script);
+                    } catch (NoSuchMethodException e) {
+                        e.printStackTrace();
+                    } catch (InvocationTargetException e) {
+                        e.printStackTrace();
+                    } catch (IllegalAccessException e) {
+                        e.printStackTrace();
+                    }
+                }
+            }
+        });
     }
 
-    private void isClosedCaptioningEnabled(final CallbackContext callbackContext) {
-        mClosedCaptioningEnabled = mMobileAccessibilityHelper.isClosedCaptioningEnabled();
-        cordova.getThreadPool().execute(new Runnable() {
+    /* Reloads the page, discarding its state, so that the WebView injects its screen reader support. */
+    private void reloadWebView() {
+        cordova.getActivity().runOnUiThread(new Runnable() {
             public void run() {
-                callbackContext.success(mClosedCaptioningEnabled ? 1 : 0);
+                WebView view;
+                try {
+                    view = (WebView) webView;
+                    view.reload();
+                } catch(ClassCastException ce) {  // cordova-android 4.0+
+                    try {   // cordova-android 4.0+
+                        Method getView = webView.getClass().getMethod("getView");
+                        Method reload = getView.invoke(webView).getClass().getMethod("reload");
+                        reload.invoke(webView);
+                    } catch (NoSuchMethodException e) {
+                        e.printStackTrace();
+                    } catch (InvocationTargetException e) {
+                        e.printStackTrace();
+                    } catch (IllegalAccessException e) {
+                        e.printStackTrace();
+                    }
+                }
             }
         });
     }
 
-    protected boolean isClosedCaptioningEnabled() {
-        mClosedCaptioningEnabled = mMobileAccessibilityHelper.isClosedCaptioningEnabled();
-        return mClosedCaptioningEnabled;
+    /**
+     * The final call you receive before your activity is destroyed.
+     */
+    public void onDestroy() {
+        stopAll();
+        mListenerRegistry.unregisterWebView(mWebViewId, mOwnWebViewTarget);
+        mListenerRegistry.releaseWebViewTargets(this);
+        mFontScaleWatcher.stop();
+        mAnnouncementQueue.shutdown();
     }
 
-    private void isTouchExplorationEnabled(final CallbackContext callbackContext) {
-        mTouchExplorationEnabled= mMobileAccessibilityHelper.isTouchExplorationEnabled();
-        cordova.getThreadPool().execute(new Runnable() {
-            public void run() {
-                callbackContext.success(mTouchExplorationEnabled ? 1 : 0);
+    /**
+     * Called when the WebView navigates or reloads, which discards the callbacks of the subscriptions
+     * and of the font scale watcher.
+     */
+    @Override
+    public void onReset() {
+        mFontScaleWatcher.stop();
+        synchronized (mSubscriptions) {
+            if (!mSubscriptions.isEmpty()) {
+                mSubscriptions.clear();
+                removeStateChangeListeners();
             }
-        });
+        }
+    }
+
+    protected boolean isScreenReaderRunning() {
+        return isEnabled(MobileAccessibilityState.SCREEN_READER_RUNNING);
+    }
+
+    protected boolean isClosedCaptioningEnabled() {
+        return isEnabled(MobileAccessibilityState.CLOSED_CAPTIONING_ENABLED);
     }
 
     protected boolean isTouchExplorationEnabled() {
-        mTouchExplorationEnabled = mMobileAccessibilityHelper.isTouchExplorationEnabled();
-        return mTouchExplorationEnabled;
+        return isEnabled(MobileAccessibilityState.TOUCH_EXPLORATION_ENABLED);
     }
 
-    private void announceForAccessibility(CharSequence text, final CallbackContext callbackContext) {
-        mMobileAccessibilityHelper.announceForAccessibility(text);
-        if (callbackContext != null) {
-            JSONObject info = new JSONObject();
-            try {
-                info.put("stringValue", text);
-                info.put("wasSuccessful", mIsScreenReaderRunning);
-            } catch (JSONException e) {
-                e.printStackTrace();
-            }
-            callbackContext.success(info);
+    /**
+     * Answers a query about the accessibility state on the calling thread while the state change listeners
+     * keep the state cached, and otherwise on the thread pool, as the system services are queried.
+     */
+    private abstract class StateQueryHandler extends ActionHandler {
+        StateQueryHandler() {
+            super(ActionHandler.THREAD_POOL);
+        }
+
+        @Override
+        int getThread() {
+            return mListenersRegistered ? ActionHandler.THREAD_INLINE : ActionHandler.THREAD_POOL;
+        }
+    }
+
+    /* Answers a flag query with the cached state. */
+    private class FlagActionHandler extends StateQueryHandler {
+        private final int mFlag;
+
+        FlagActionHandler(int flag) {
+            mFlag = flag;
+        }
+
+        @Override
+        void execute(JSONArray args, CallbackContext callbackContext) {
+            callbackContext.success(isEnabled(mFlag) ? 1 : 0);
+        }
+    }
+
+    /**
+     * Returns the cached value of a flag while the state change listeners keep the cache current,
+     * otherwise queries the helper and updates the cache.
+     */
+    private boolean isEnabled(int flag) {
+        if (mListenersRegistered) {
+            return mState.get().isEnabled(flag);
+        }
+        return updateState(flag, queryHelper(flag)).isEnabled(flag);
+    }
+
+    private boolean queryHelper(int flag) {
+        switch (flag) {
+        case MobileAccessibilityState.SCREEN_READER_RUNNING:
+            return mMobileAccessibilityHelper.isScreenReaderRunning();
+        case MobileAccessibilityState.CLOSED_CAPTIONING_ENABLED:
+            return mMobileAccessibilityHelper.isClosedCaptioningEnabled();
+        case MobileAccessibilityState.TOUCH_EXPLORATION_ENABLED:
+            return mMobileAccessibilityHelper.isTouchExplorationEnabled();
+        default:
+            return (mListenerRegistry.readSettingsFlags() & flag) != 0;
+        }
+    }
+
+    /* Returns the cached state, or queries every flag from the helper while no listeners are registered. */
+    private MobileAccessibilityState getState() {
+        if (mListenersRegistered) {
+            return mState.get();
+        }
+        return refreshState();
+    }
+
+    private MobileAccessibilityState refreshState() {
+        int flags = 0;
+        if (mMobileAccessibilityHelper.isScreenReaderRunning()) {
+            flags |= MobileAccessibilityState.SCREEN_READER_RUNNING;
+        }
+        if (mMobileAccessibilityHelper.isClosedCaptioningEnabled()) {
+            flags |= MobileAccessibilityState.CLOSED_CAPTIONING_ENABLED;
+        }
+        if (mMobileAccessibilityHelper.isTouchExplorationEnabled()) {
+            flags |= MobileAccessibilityState.TOUCH_EXPLORATION_ENABLED;
         }
+        flags |= mListenerRegistry.readSettingsFlags();
+        MobileAccessibilityState current;
+        MobileAccessibilityState next;
+        do {
+            current = mState.get();
+            next = current.withFlags(flags);
+        } while (next != current && !mState.compareAndSet(current, next));
+        return next;
+    }
+
+    private MobileAccessibilityState updateState(int flag, boolean enabled) {
+        MobileAccessibilityState current;
+        MobileAccessibilityState next;
+        do {
+            current = mState.get();
+            next = current.with(flag, enabled);
+        } while (next != current && !mState.compareAndSet(current, next));
+        return next;
     }
 
+    /**
+     * The listener reports whether any accessibility service is enabled, such as Switch Access, so the
+     * helper is asked again whether one of them is a screen reader.
+     */
     public void onAccessibilityStateChanged(boolean enabled) {
-        mIsScreenReaderRunning = enabled;
-        cordova.getActivity().runOnUiThread(new Runnable() {
-            public void run() {
-                    sendMobileAccessibilityStatusChangedCallback();
-                }
-            });
+        long start = System.nanoTime();
+        mTracer.onChange(start);
+        countBackgroundWakeup();
+        mJournal.record(EventJournal.TYPE_LISTENER, MobileAccessibilityState.SCREEN_READER_RUNNING, enabled ? 1 : 0);
+        updateState(MobileAccessibilityState.SCREEN_READER_RUNNING, mMobileAccessibilityHelper.isScreenReaderRunning());
+        mStatusChangeDispatcher.onStateChanged();
+        mMetrics.screenReaderChanged.record(System.nanoTime() - start);
     }
 
     public void onCaptioningEnabledChanged(boolean enabled) {
-        mClosedCaptioningEnabled = enabled;
-        cordova.getActivity().runOnUiThread(new Runnable() {
-             public void run() {
-                    sendMobileAccessibilityStatusChangedCallback();
-                }
-            });
+        long start = System.nanoTime();
+        mTracer.onChange(start);
+        countBackgroundWakeup();
+        mJournal.record(EventJournal.TYPE_LISTENER, MobileAccessibilityState.CLOSED_CAPTIONING_ENABLED, enabled ? 1 : 0);
+        updateState(MobileAccessibilityState.CLOSED_CAPTIONING_ENABLED, enabled);
+        mStatusChangeDispatcher.onStateChanged();
+        mMetrics.closedCaptioningChanged.record(System.nanoTime() - start);
     }
 
     public void onTouchExplorationStateChanged(boolean enabled) {
-        mTouchExplorationEnabled = enabled;
-        cordova.getActivity().runOnUiThread(new Runnable() {
-             public void run() {
-                    sendMobileAccessibilityStatusChangedCallback();
-                }
-            });
+        long start = System.nanoTime();
+        mTracer.onChange(start);
+        countBackgroundWakeup();
+        mJournal.record(EventJournal.TYPE_LISTENER, MobileAccessibilityState.TOUCH_EXPLORATION_ENABLED, enabled ? 1 : 0);
+        updateState(MobileAccessibilityState.TOUCH_EXPLORATION_ENABLED, enabled);
+        mStatusChangeDispatcher.onStateChanged();
+        mMetrics.touchExplorationChanged.record(System.nanoTime() - start);
+    }
+
+    /**
+     * Called on a binder thread with every settings flag. The enabled services are watched as well, and can
+     * change whether a screen reader is running while the accessibility state stays enabled.
+     */
+    void onSettingsChanged(int flags) {
+        long start = System.nanoTime();
+        countBackgroundWakeup();
+        mJournal.record(EventJournal.TYPE_SETTINGS, flags, 0);
+        mMobileAccessibilityHelper.invalidateServiceIndex();
+        if (mMobileAccessibilityHelper.isScreenReaderRunning()) {
+            flags |= MobileAccessibilityState.SCREEN_READER_RUNNING;
+        }
+        int mask = MobileAccessibilityState.SETTINGS_FLAGS | MobileAccessibilityState.SCREEN_READER_RUNNING;
+        MobileAccessibilityState current;
+        MobileAccessibilityState next;
+        do {
+            current = mState.get();
+            next = current.withFlags(mask, flags);
+        } while (next != current && !mState.compareAndSet(current, next));
+        if (next != current) {
+            mTracer.onChange(start);
+            mStatusChangeDispatcher.onStateChanged();
+        }
+        mMetrics.settingsChanged.record(System.nanoTime() - start);
+    }
+
+    /* Counts the state changes received while the app is paused. */
+    private void countBackgroundWakeup() {
+        if (mPaused) {
+            mMetrics.backgroundWakeups.incrementAndGet();
+        }
+    }
+
+    /**
+     * Resolves ahead of first use the view, the system services and the stored snapshot, and queries the
+     * status once. Called on the Cordova thread pool.
+     */
+    private void prewarm() {
+        long start = System.nanoTime();
+        mMobileAccessibilityHelper.prewarm();
+        mStatusSnapshotStore.hasSnapshot();
+        getState();
+        mMetrics.prewarm.record(System.nanoTime() - start);
     }
 
-    private void getTextZoom(final CallbackContext callbackContext) {
+    /**
+     * Sends the current status snapshot from the Cordova thread pool. When a stale snapshot is allowed, the last known
+     * snapshot is sent first, marked with isStale, and the current one is only sent if it differs. Only reading the
+     * text zoom from the WebView, the first time it is needed, is posted to the UI thread.
+     */
+    private void getStatusSnapshot(final boolean allowStale, final CallbackContext callbackContext) throws JSONException {
+        final boolean hasStaleSnapshot = allowStale && mStatusSnapshotStore.hasSnapshot();
+        final int staleFlags = hasStaleSnapshot ? mStatusSnapshotStore.getFlags() : 0;
+        final int staleTextZoom = hasStaleSnapshot ? mStatusSnapshotStore.getTextZoom() : 0;
+        final float staleFontScale = hasStaleSnapshot ? mStatusSnapshotStore.getFontScale() : 0;
+        if (hasStaleSnapshot) {
+            JSONObject snapshot = createStatusSnapshot(MobileAccessibilityState.INITIAL.withFlags(staleFlags),
+                    staleTextZoom, staleFontScale);
+            snapshot.put("isStale", true);
+            PluginResult result = new PluginResult(PluginResult.Status.OK, snapshot);
+            result.setKeepCallback(true);
+            callbackContext.sendPluginResult(result);
+        }
+        final MobileAccessibilityState state = getState();
+        final float fontScale = mFontScaleWatcher.getFontScale();
+        double textZoom = mTextZoomApplier.getCachedTextZoom();
+        if (textZoom != TextZoomApplier.UNKNOWN_TEXT_ZOOM) {
+            sendStatusSnapshot(allowStale, hasStaleSnapshot, staleFlags, staleTextZoom, staleFontScale,
+                    state, (int) textZoom, fontScale, callbackContext);
+            return;
+        }
         cordova.getActivity().runOnUiThread(new Runnable() {
             public void run() {
-                final double textZoom = mMobileAccessibilityHelper.getTextZoom();
-                if (callbackContext != null) {
-                    callbackContext.success((int) textZoom);
-                }
+                sendStatusSnapshot(allowStale, hasStaleSnapshot, staleFlags, staleTextZoom, staleFontScale,
+                        state, (int) mTextZoomApplier.getTextZoom(), fontScale, callbackContext);
             }
         });
     }
 
-    private void setTextZoom(final double textZoom, final CallbackContext callbackContext) {
-        cordova.getActivity().runOnUiThread(new Runnable() {
-            public void run() {
-                mMobileAccessibilityHelper.setTextZoom(textZoom);
-                if (callbackContext != null) {
-                    callbackContext.success((int) mMobileAccessibilityHelper.getTextZoom());
+    /* Saves the current snapshot, and sends it unless it matches the stale one already sent. */
+    private void sendStatusSnapshot(boolean allowStale, boolean hasStaleSnapshot, int staleFlags, int staleTextZoom,
+            float staleFontScale, MobileAccessibilityState state, int textZoom, float fontScale,
+            CallbackContext callbackContext) {
+        synchronized (mStatusSnapshotStore) {
+            mStatusSnapshotStore.saveSnapshot(state.flags, textZoom, fontScale);
+        }
+        if (hasStaleSnapshot && staleFlags == state.flags && staleTextZoom == textZoom
+                && staleFontScale == fontScale) {
+            callbackContext.sendPluginResult(new PluginResult(PluginResult.Status.NO_RESULT));
+            return;
+        }
+        try {
+            JSONObject snapshot = createStatusSnapshot(state, textZoom, fontScale);
+            if (allowStale) {
+                snapshot.put("isStale", false);
+            }
+            callbackContext.success(snapshot);
+        } catch (JSONException e) {
+            e.printStackTrace();
+            callbackContext.sendPluginResult(new PluginResult(PluginResult.Status.JSON_EXCEPTION));
+        }
+    }
+
+    private JSONObject createStatusSnapshot(MobileAccessibilityState state, int textZoom, float fontScale)
+            throws JSONException {
+        JSONObject snapshot = getMobileAccessibilityStatus(state);
+        snapshot.put("textZoom", textZoom);
+        snapshot.put("fontScale", fontScale);
+        return snapshot;
+    }
+
+    /* Writes the journal to the cache directory, which the app can read or share along with a bug report. */
+    private void exportJournal(String format, CallbackContext callbackContext) throws JSONException {
+        String extension = EventJournal.FORMAT_BINARY.equals(format) ? ".bin" : ".ndjson";
+        File file = new File(cordova.getActivity().getCacheDir(), "mobile-accessibility-journal" + extension);
+        try {
+            callbackContext.success(mJournal.export(file, format));
+        } catch (IOException e) {
+            e.printStackTrace();
+            callbackContext.error(e.toString());
+        }
+    }
+
+    public void setTextZoom(double textZoom) {
+        mTextZoomApplier.request(textZoom, null);
+    }
+
+    /* An empty id stands for the WebView of this plugin. */
+    private boolean isOwnWebView(String webViewId) {
+        return webViewId.isEmpty() || webViewId.equals(mWebViewId);
+    }
+
+    /* Returns null, after sending an error, when no WebView is registered with the id. */
+    private TextZoomApplier getTextZoomApplier(String webViewId, CallbackContext callbackContext) {
+        if (isOwnWebView(webViewId)) {
+            return mTextZoomApplier;
+        }
+        AccessibilityListenerRegistry.WebViewTarget target = getWebViewTarget(webViewId);
+        if (target == null) {
+            callbackContext.error("Unknown WebView: " + webViewId);
+            return null;
+        }
+        return target.textZoomApplier;
+    }
+
+    /**
+     * Returns the target for a WebView registered by another plugin instance or by the app, or null when the
+     * id is unknown. The WebView of another plugin instance is targeted through the helper and the text zoom
+     * applier of that instance. Other WebViews are bound once to a helper of this instance, shared with every
+     * instance targeting them.
+     */
+    private AccessibilityListenerRegistry.WebViewTarget getWebViewTarget(String webViewId) {
+        while (true) {
+            AccessibilityListenerRegistry.WebViewTarget target = mListenerRegistry.getWebViewTarget(webViewId);
+            if (target == null || target.textZoomApplier != null) {
+                return target;
+            }
+            View view = target.getView();
+            if (view == null) {
+                return null;
+            }
+            AbstractMobileAccessibilityHelper helper = createMobileAccessibilityHelper();
+            helper.initialize(this);
+            helper.setView(view);
+            AccessibilityListenerRegistry.WebViewTarget bound = new AccessibilityListenerRegistry.WebViewTarget(view,
+                    helper, new TextZoomApplier(helper, null, mMainHandler, mJournal), this);
+            if (mListenerRegistry.bindWebViewTarget(webViewId, target, bound)) {
+                return bound;
+            }
+        }
+    }
+
+    /*
+     * Registers the WebView of this plugin through its helper and text zoom applier. The helper only resolves
+     * the view when another instance first targets it, or in prewarm.
+     */
+    private void registerOwnWebView() {
+        mListenerRegistry.registerWebView(mWebViewId, mOwnWebViewTarget);
+    }
+
+    private void setWebViewId(String webViewId) {
+        if (webViewId.isEmpty()) {
+            return;
+        }
+        mListenerRegistry.unregisterWebView(mWebViewId, mOwnWebViewTarget);
+        mWebViewId = webViewId;
+        registerOwnWebView();
+    }
+
+    private void updateTextZoom(CallbackContext callbackContext) {
+        mTextZoomApplier.request(FontScaleWatcher.toTextZoom(mFontScaleWatcher.getFontScale()), callbackContext);
+    }
+
+    private void configure(JSONObject options) throws JSONException {
+        if (options.has("statusFormat")) {
+            mJsonStatus = "json".equals(options.getString("statusFormat"));
+            mAnnouncementQueue.setJsonResults(mJsonStatus);
+        }
+        if (options.has("statusCoalescingWindow")) {
+            mStatusChangeDispatcher.setWindowMillis(options.getLong("statusCoalescingWindow"));
+        }
+        if (options.has("announcementQueueDepth")) {
+            mAnnouncementQueue.setMaxDepth(options.getInt("announcementQueueDepth"));
+        }
+        if (options.has("announcementOverflowPolicy")) {
+            mAnnouncementQueue.setOverflowPolicy(options.getString("announcementOverflowPolicy"));
+        }
+        if (options.has("announcementCharacterDuration")) {
+            mAnnouncementQueue.setCharacterDurationMillis(options.getLong("announcementCharacterDuration"));
+        }
+        if (options.has("announcementMinimumInterval")) {
+            mAnnouncementQueue.setMinimumIntervalMillis(options.getLong("announcementMinimumInterval"));
+        }
+        if (options.has("announcementMaxLength")) {
+            mAnnouncementQueue.setMaxLength(options.getInt("announcementMaxLength"));
+        }
+        if (options.has("verifyTextZoom")) {
+            mTextZoomApplier.setVerify(options.getBoolean("verifyTextZoom"));
+        }
+        if (options.has("webViewId")) {
+            setWebViewId(options.getString("webViewId"));
+        }
+        if (options.has("tracing")) {
+            mTracer.setEnabled(options.getBoolean("tracing"));
+        }
+        if (options.has("suspendListenersWhilePaused")) {
+            mSuspendListenersWhilePaused = options.getBoolean("suspendListenersWhilePaused");
+        }
+        if (options.has("screenReaderActivation")) {
+            mReloadOnScreenReaderActivation = !"incremental".equals(options.getString("screenReaderActivation"));
+        }
+    }
+
+    /**
+     * Sends the status to the subscriptions with a changed flag in their mask. The subscriptions are sent to
+     * under their lock, like the initial status sent by start, so that the two reach JavaScript in order.
+     */
+    private int sendMobileAccessibilityStatusChangedCallback(MobileAccessibilityState state) {
+        saveFlags(state.flags);
+        PluginResult result = null;
+        int sent = 0;
+        synchronized (mSubscriptions) {
+            for (StatusSubscription subscription : mSubscriptions.values()) {
+                if (subscription.isInterestedIn(state)) {
+                    if (result == null) {
+                        result = createStatusResult(state, true);
+                        mTracer.onBuilt();
+                    }
+                    sendStatus(subscription, state, result);
+                    sent++;
                 }
             }
-        });
+        }
+        if (sent > 0) {
+            mTracer.onSent(state.flags);
+        }
+        mJournal.record(EventJournal.TYPE_STATUS, state.flags, sent);
+        return sent;
     }
 
-    public void setTextZoom(final double textZoom) {
-        cordova.getActivity().runOnUiThread(new Runnable() {
+    /**
+     * Saves the flags on the thread pool, since the first read of the preferences loads them from disk and
+     * status changes are sent on the UI thread. Saves which are still pending are merged into one.
+     */
+    private void saveFlags(int flags) {
+        mFlagsToSave = flags;
+        if (!mFlagsSaveScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        cordova.getThreadPool().execute(new Runnable() {
             public void run() {
-                mMobileAccessibilityHelper.setTextZoom(textZoom);
+                mFlagsSaveScheduled.set(false);
+                // Locked so that a save which read older flags cannot finish after one which read newer flags.
+                synchronized (mStatusSnapshotStore) {
+                    mStatusSnapshotStore.saveFlags(mFlagsToSave);
+                }
             }
         });
     }
 
-    private void updateTextZoom(final CallbackContext callbackContext) {
-        float fontScale = cordova.getActivity().getResources().getConfiguration().fontScale;
-        if (fontScale != mFontScale) {
-            mFontScale = fontScale;
-        }
-        final double textZoom = Math.round(mFontScale * 100);
-        setTextZoom(textZoom, callbackContext);
+    private PluginResult createStatusResult(MobileAccessibilityState state, boolean keepCallback) {
+        PluginResult result = mJsonStatus
+                ? new PluginResult(PluginResult.Status.OK, getMobileAccessibilityStatus(state))
+                : new PluginResult(PluginResult.Status.OK, state.flags);
+        result.setKeepCallback(keepCallback);
+        return result;
     }
 
-    private void sendMobileAccessibilityStatusChangedCallback() {
-        if (this.mCallbackContext != null) {
-            PluginResult result = new PluginResult(PluginResult.Status.OK, getMobileAccessibilityStatus());
-            result.setKeepCallback(true);
-            this.mCallbackContext.sendPluginResult(result);
-        }
+    private void sendStatus(StatusSubscription subscription, MobileAccessibilityState state, PluginResult result) {
+        subscription.onSent(state);
+        subscription.callbackContext.sendPluginResult(result);
     }
 
-    /* Get the current mobile accessibility status. */
-    private JSONObject getMobileAccessibilityStatus() {
+    /* Get the current mobile accessibility status. Package-private for the JVM benchmarks. */
+    JSONObject getMobileAccessibilityStatus(MobileAccessibilityState state) {
         JSONObject status = new JSONObject();
         try {
-            status.put("isScreenReaderRunning", mIsScreenReaderRunning);
-            status.put("isClosedCaptioningEnabled", mClosedCaptioningEnabled);
-            status.put("isTouchExplorationEnabled", mTouchExplorationEnabled);
+            status.put("isScreenReaderRunning", state.isScreenReaderRunning());
+            status.put("isClosedCaptioningEnabled", state.isClosedCaptioningEnabled());
+            status.put("isTouchExplorationEnabled", state.isTouchExplorationEnabled());
+            status.put("isHighContrastEnabled", state.isHighContrastEnabled());
+            status.put("isReduceMotionEnabled", state.isReduceMotionEnabled());
+            status.put("isInvertColorsEnabled", state.isInvertColorsEnabled());
+            status.put("isGrayscaleEnabled", state.isGrayscaleEnabled());
+            status.put("isBoldTextEnabled", state.isBoldTextEnabled());
             //Log.i("MobileAccessibility",  "MobileAccessibility.isScreenReaderRunning == " + status.getString("isScreenReaderRunning") +
             //        "\nMobileAccessibility.isClosedCaptioningEnabled == " + status.getString("isClosedCaptioningEnabled") +
             //        "\nMobileAccessibility.isTouchExplorationEnabled == " + status.getString("isTouchExplorationEnabled") );
@@ -312,19 +997,69 @@ public class MobileAccessibility extends CordovaPlugin {
         return status;
     }
 
-    private void start(CallbackContext callbackContext) {
+    /**
+     * Adds or replaces the subscription with the given id and sends it the current status. The state change
+     * listeners are shared by all subscriptions, and registered along with the first one.
+     */
+    private void start(String id, int mask, CallbackContext callbackContext) {
         //Log.i("MobileAccessibility", "MobileAccessibility.start");
-        mCallbackContext = callbackContext;
-        mMobileAccessibilityHelper.addStateChangeListeners();
-        sendMobileAccessibilityStatusChangedCallback();
+        StatusSubscription subscription = new StatusSubscription(id, mask, callbackContext);
+        synchronized (mSubscriptions) {
+            MobileAccessibilityState state;
+            if (mSubscriptions.isEmpty() && !mListenersSuspended) {
+                addStateChangeListeners();
+                state = refreshState();
+                mListenersRegistered = mMobileAccessibilityHelper.isStateChangeListenerSupported();
+            } else if (mSubscriptions.isEmpty()) {
+                // The listeners are registered when the app resumes.
+                state = refreshState();
+            } else {
+                state = getState();
+            }
+            mSubscriptions.put(id, subscription);
+            sendStatus(subscription, state, createStatusResult(state, true));
+        }
     }
 
-    private void stop() {
+    /* Sends the subscription a last status and removes it, along with the listeners if it was the last one. */
+    private void stop(String id) {
         //Log.i("MobileAccessibility", "MobileAccessibility.stop");
-        if (mCallbackContext != null) {
-            sendMobileAccessibilityStatusChangedCallback();
-            mMobileAccessibilityHelper.removeStateChangeListeners();
-            mCallbackContext = null;
+        synchronized (mSubscriptions) {
+            StatusSubscription subscription = mSubscriptions.remove(id);
+            if (subscription != null) {
+                MobileAccessibilityState state = mState.get();
+                sendStatus(subscription, state, createStatusResult(state, false));
+                if (mSubscriptions.isEmpty()) {
+                    removeStateChangeListeners();
+                }
+            }
+        }
+    }
+
+    private void stopAll() {
+        synchronized (mSubscriptions) {
+            if (mSubscriptions.isEmpty()) {
+                return;
+            }
+            MobileAccessibilityState state = mState.get();
+            PluginResult result = createStatusResult(state, false);
+            for (StatusSubscription subscription : mSubscriptions.values()) {
+                sendStatus(subscription, state, result);
+            }
+            mSubscriptions.clear();
+            removeStateChangeListeners();
         }
     }
+
+    private void addStateChangeListeners() {
+        mMobileAccessibilityHelper.addStateChangeListeners();
+        mListenerRegistry.addSettingsListener(mSettingsListener);
+    }
+
+    private void removeStateChangeListeners() {
+        mStatusChangeDispatcher.cancel();
+        mListenersRegistered = false;
+        mMobileAccessibilityHelper.removeStateChangeListeners();
+        mListenerRegistry.removeSettingsListener(mSettingsListener);
+    }
 }
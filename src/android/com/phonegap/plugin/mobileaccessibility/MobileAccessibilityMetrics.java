@@ -0,0 +1,110 @@
+/**
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+
+package com.phonegap.plugin.mobileaccessibility;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Latency histograms for the native side of the plugin, returned by the getMetrics action.
+ * Histograms are created up front so that recording never allocates or locks.
+ */
+final class MobileAccessibilityMetrics {
+    /* Time an action spends waiting for its thread, and running on it. */
+    static final class ActionMetrics {
+        final LatencyHistogram queueWait = new LatencyHistogram();
+        final LatencyHistogram run = new LatencyHistogram();
+    }
+
+    private final HashMap<String, ActionMetrics> mActions = new HashMap<String, ActionMetrics>();
+    /* Time spent in the state change listener callbacks. */
+    final LatencyHistogram screenReaderChanged = new LatencyHistogram();
+    final LatencyHistogram closedCaptioningChanged = new LatencyHistogram();
+    final LatencyHistogram touchExplorationChanged = new LatencyHistogram();
+    final LatencyHistogram settingsChanged = new LatencyHistogram();
+    /* Time spent sending an announcement to the screen reader on the UI thread. */
+    final LatencyHistogram announcements = new LatencyHistogram();
+    /* Time spent initializing the plugin, and prewarming it. */
+    final LatencyHistogram initialize = new LatencyHistogram();
+    final LatencyHistogram prewarm = new LatencyHistogram();
+    /* Time spent querying the state and registering the listeners again when the app resumes. */
+    final LatencyHistogram resume = new LatencyHistogram();
+    /* State changes received while the app was paused. */
+    final AtomicLong backgroundWakeups = new AtomicLong();
+
+    /* Must be called for every action before execute can be called. */
+    void addAction(String action) {
+        mActions.put(action, new ActionMetrics());
+    }
+
+    ActionMetrics getAction(String action) {
+        return mActions.get(action);
+    }
+
+    /* The initialize histogram is kept, since the plugin is only initialized once. */
+    void reset() {
+        for (ActionMetrics action : mActions.values()) {
+            action.queueWait.reset();
+            action.run.reset();
+        }
+        screenReaderChanged.reset();
+        closedCaptioningChanged.reset();
+        touchExplorationChanged.reset();
+        settingsChanged.reset();
+        announcements.reset();
+        prewarm.reset();
+        resume.reset();
+        backgroundWakeups.set(0);
+    }
+
+    /* Actions that have not been called since the last reset are left out. */
+    JSONObject toJSON() throws JSONException {
+        JSONObject actions = new JSONObject();
+        for (Map.Entry<String, ActionMetrics> entry : mActions.entrySet()) {
+            ActionMetrics action = entry.getValue();
+            if (action.run.getCount() > 0) {
+                JSONObject metrics = new JSONObject();
+                metrics.put("queueWait", action.queueWait.toJSON());
+                metrics.put("run", action.run.toJSON());
+                actions.put(entry.getKey(), metrics);
+            }
+        }
+        JSONObject callbacks = new JSONObject();
+        callbacks.put("screenReaderChanged", screenReaderChanged.toJSON());
+        callbacks.put("closedCaptioningChanged", closedCaptioningChanged.toJSON());
+        callbacks.put("touchExplorationChanged", touchExplorationChanged.toJSON());
+        callbacks.put("settingsChanged", settingsChanged.toJSON());
+        JSONObject metrics = new JSONObject();
+        metrics.put("actions", actions);
+        metrics.put("callbacks", callbacks);
+        metrics.put("announcements", announcements.toJSON());
+        metrics.put("initialize", initialize.toJSON());
+        metrics.put("prewarm", prewarm.toJSON());
+        metrics.put("resume", resume.toJSON());
+        metrics.put("backgroundWakeups", backgroundWakeups.get());
+        return metrics;
+    }
+}
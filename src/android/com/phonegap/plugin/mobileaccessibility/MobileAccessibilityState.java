@@ -0,0 +1,106 @@
+/**
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+
+package com.phonegap.plugin.mobileaccessibility;
+
+/**
+ * Immutable snapshot of the accessibility flags tracked by MobileAccessibility.
+ * Every change produces a new instance with an incremented version number.
+ * The flag bits are sent as is to JavaScript, where STATUS_FLAGS in www/mobile-accessibility.js decodes them.
+ */
+final class MobileAccessibilityState {
+    static final int SCREEN_READER_RUNNING = 1;
+    static final int CLOSED_CAPTIONING_ENABLED = 1 << 1;
+    static final int TOUCH_EXPLORATION_ENABLED = 1 << 2;
+    static final int HIGH_CONTRAST_ENABLED = 1 << 3;
+    static final int REDUCE_MOTION_ENABLED = 1 << 4;
+    static final int INVERT_COLORS_ENABLED = 1 << 5;
+    static final int GRAYSCALE_ENABLED = 1 << 6;
+    static final int BOLD_TEXT_ENABLED = 1 << 7;
+    /* The flags read from the system settings by AccessibilitySettingsObserver. */
+    static final int SETTINGS_FLAGS = HIGH_CONTRAST_ENABLED | REDUCE_MOTION_ENABLED | INVERT_COLORS_ENABLED
+            | GRAYSCALE_ENABLED | BOLD_TEXT_ENABLED;
+
+    static final MobileAccessibilityState INITIAL = new MobileAccessibilityState(0, 0);
+
+    /* Lets StatusSubscription skip states older than the last one it was sent. */
+    final long version;
+    final int flags;
+
+    private MobileAccessibilityState(long version, int flags) {
+        this.version = version;
+        this.flags = flags;
+    }
+
+    boolean isEnabled(int flag) {
+        return (flags & flag) != 0;
+    }
+
+    boolean isScreenReaderRunning() {
+        return isEnabled(SCREEN_READER_RUNNING);
+    }
+
+    boolean isClosedCaptioningEnabled() {
+        return isEnabled(CLOSED_CAPTIONING_ENABLED);
+    }
+
+    boolean isTouchExplorationEnabled() {
+        return isEnabled(TOUCH_EXPLORATION_ENABLED);
+    }
+
+    boolean isHighContrastEnabled() {
+        return isEnabled(HIGH_CONTRAST_ENABLED);
+    }
+
+    boolean isReduceMotionEnabled() {
+        return isEnabled(REDUCE_MOTION_ENABLED);
+    }
+
+    boolean isInvertColorsEnabled() {
+        return isEnabled(INVERT_COLORS_ENABLED);
+    }
+
+    boolean isGrayscaleEnabled() {
+        return isEnabled(GRAYSCALE_ENABLED);
+    }
+
+    boolean isBoldTextEnabled() {
+        return isEnabled(BOLD_TEXT_ENABLED);
+    }
+
+    /* Returns this instance when the flag already has the requested value. */
+    MobileAccessibilityState with(int flag, boolean enabled) {
+        return withFlags(enabled ? flags | flag : flags & ~flag);
+    }
+
+    /* Replaces the flags in the mask. Returns this instance when they are unchanged. */
+    MobileAccessibilityState withFlags(int mask, int newFlags) {
+        return withFlags((flags & ~mask) | (newFlags & mask));
+    }
+
+    /* Returns this instance when the flags are unchanged. */
+    MobileAccessibilityState withFlags(int newFlags) {
+        if (newFlags == flags) {
+            return this;
+        }
+        return new MobileAccessibilityState(version + 1, newFlags);
+    }
+}
@@ -0,0 +1,184 @@
+/**
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+
+package com.phonegap.plugin.mobileaccessibility;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Optional tracing of the hops taken by status events and requests, enabled with the tracing option of
+ * the configure action and read with the getTraces action. A status event is timed from the first state
+ * change it carries, through the coalescing window and the UI thread queue, the building of its result,
+ * and its hand-off to the bridge. Requests are timed while waiting for their thread and while running.
+ * The last events and requests are kept along with the histograms.
+ */
+final class MobileAccessibilityTracer {
+    static final int RECENT_COUNT = 64;
+
+    private static final String[] THREAD_NAMES = { "inline", "ui", "pool" };
+
+    /* State change to dispatch on the UI thread, including the coalescing window. */
+    final LatencyHistogram coalescing = new LatencyHistogram();
+    /* Dispatch to the status result being built. */
+    final LatencyHistogram build = new LatencyHistogram();
+    /* Result built to every subscription having handed it to the bridge. */
+    final LatencyHistogram bridge = new LatencyHistogram();
+    final LatencyHistogram total = new LatencyHistogram();
+
+    private volatile boolean mEnabled = false;
+    /* Time of the first state change which has not been dispatched yet, or 0. */
+    private final AtomicLong mFirstChange = new AtomicLong();
+    /* Only used on the UI thread, for the status event being dispatched. */
+    private long mChange;
+    private long mDispatch;
+    private long mBuilt;
+
+    /* Rings of the last status events, as change time and hops, and of the last requests. */
+    private final long[][] mRecentEvents = new long[RECENT_COUNT][4];
+    private final int[] mRecentEventFlags = new int[RECENT_COUNT];
+    private int mEventCount = 0;
+    private final String[] mRecentActions = new String[RECENT_COUNT];
+    private final long[][] mRecentRequests = new long[RECENT_COUNT][3];
+    private int mRequestCount = 0;
+
+    boolean isEnabled() {
+        return mEnabled;
+    }
+
+    void setEnabled(boolean enabled) {
+        mEnabled = enabled;
+        if (!enabled) {
+            mFirstChange.set(0);
+        }
+    }
+
+    /* Called from any thread when a state change listener fires. */
+    void onChange(long time) {
+        if (mEnabled) {
+            mFirstChange.compareAndSet(0, time);
+        }
+    }
+
+    /* Called on the UI thread by StatusChangeDispatcher, whether or not the event is then suppressed. */
+    void onDispatch() {
+        mChange = mFirstChange.getAndSet(0);
+        mDispatch = System.nanoTime();
+    }
+
+    /* Called on the UI thread once the status result is built. */
+    void onBuilt() {
+        mBuilt = System.nanoTime();
+    }
+
+    /* Called on the UI thread once the status event has been sent to every interested subscription. */
+    void onSent(int flags) {
+        if (mChange == 0) {
+            return;
+        }
+        long sent = System.nanoTime();
+        long built = mBuilt != 0 ? mBuilt : sent;
+        coalescing.record(mDispatch - mChange);
+        build.record(built - mDispatch);
+        bridge.record(sent - built);
+        total.record(sent - mChange);
+        synchronized (mRecentEvents) {
+            long[] event = mRecentEvents[mEventCount % RECENT_COUNT];
+            event[0] = mChange;
+            event[1] = mDispatch - mChange;
+            event[2] = built - mDispatch;
+            event[3] = sent - built;
+            mRecentEventFlags[mEventCount % RECENT_COUNT] = flags;
+            mEventCount++;
+        }
+        mChange = 0;
+        mBuilt = 0;
+    }
+
+    void onRequest(String action, int thread, long queueWait, long run) {
+        synchronized (mRecentRequests) {
+            int slot = mRequestCount % RECENT_COUNT;
+            mRecentActions[slot] = action;
+            mRecentRequests[slot][0] = thread;
+            mRecentRequests[slot][1] = queueWait;
+            mRecentRequests[slot][2] = run;
+            mRequestCount++;
+        }
+    }
+
+    void reset() {
+        coalescing.reset();
+        build.reset();
+        bridge.reset();
+        total.reset();
+        synchronized (mRecentEvents) {
+            mEventCount = 0;
+        }
+        synchronized (mRecentRequests) {
+            mRequestCount = 0;
+        }
+    }
+
+    /* Durations are in microseconds, and the recent entries are listed oldest first. */
+    JSONObject toJSON() throws JSONException {
+        JSONObject statusEvents = new JSONObject();
+        statusEvents.put("coalescing", coalescing.toJSON());
+        statusEvents.put("build", build.toJSON());
+        statusEvents.put("bridge", bridge.toJSON());
+        statusEvents.put("total", total.toJSON());
+
+        JSONArray recentEvents = new JSONArray();
+        synchronized (mRecentEvents) {
+            for (int i = Math.max(0, mEventCount - RECENT_COUNT); i < mEventCount; i++) {
+                long[] event = mRecentEvents[i % RECENT_COUNT];
+                JSONObject json = new JSONObject();
+                json.put("flags", mRecentEventFlags[i % RECENT_COUNT]);
+                json.put("changeTime", event[0]);
+                json.put("coalescing", event[1] / 1000.0);
+                json.put("build", event[2] / 1000.0);
+                json.put("bridge", event[3] / 1000.0);
+                recentEvents.put(json);
+            }
+        }
+        JSONArray recentRequests = new JSONArray();
+        synchronized (mRecentRequests) {
+            for (int i = Math.max(0, mRequestCount - RECENT_COUNT); i < mRequestCount; i++) {
+                long[] request = mRecentRequests[i % RECENT_COUNT];
+                JSONObject json = new JSONObject();
+                json.put("action", mRecentActions[i % RECENT_COUNT]);
+                json.put("thread", THREAD_NAMES[(int) request[0]]);
+                json.put("queueWait", request[1] / 1000.0);
+                json.put("run", request[2] / 1000.0);
+                recentRequests.put(json);
+            }
+        }
+
+        JSONObject traces = new JSONObject();
+        traces.put("enabled", mEnabled);
+        traces.put("statusEvents", statusEvents);
+        traces.put("recentStatusEvents", recentEvents);
+        traces.put("recentRequests", recentRequests);
+        return traces;
+    }
+}
@@ -0,0 +1,107 @@
+/**
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+
+package com.phonegap.plugin.mobileaccessibility;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import android.os.Handler;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Coalesces accessibility state changes that arrive within a short window into a single status
+ * callback. Unchanged states are skipped by each StatusSubscription, which knows the last status it was
+ * sent, however it was sent.
+ */
+class StatusChangeDispatcher implements Runnable {
+    static final long DEFAULT_WINDOW_MILLIS = 50;
+
+    interface OnDispatchListener {
+        /* Returns the number of subscriptions the status was sent to. */
+        int onDispatch(MobileAccessibilityState state);
+    }
+
+    private final Handler mHandler;
+    private final AtomicReference<MobileAccessibilityState> mState;
+    private final OnDispatchListener mListener;
+    private final MobileAccessibilityTracer mTracer;
+    private final AtomicBoolean mScheduled = new AtomicBoolean(false);
+    private final AtomicLong mStatusChangeEvents = new AtomicLong();
+    private final AtomicLong mCoalescedEvents = new AtomicLong();
+    private final AtomicLong mDispatchedEvents = new AtomicLong();
+    private final AtomicLong mSuppressedEvents = new AtomicLong();
+    private volatile long mWindowMillis = DEFAULT_WINDOW_MILLIS;
+
+    StatusChangeDispatcher(Handler handler, AtomicReference<MobileAccessibilityState> state, OnDispatchListener listener,
+            MobileAccessibilityTracer tracer) {
+        mHandler = handler;
+        mState = state;
+        mListener = listener;
+        mTracer = tracer;
+    }
+
+    void setWindowMillis(long windowMillis) {
+        mWindowMillis = Math.max(0, windowMillis);
+    }
+
+    /**
+     * Called from any thread after the state has been updated. Only the first change within the
+     * window schedules a callback; later ones are merged into it.
+     */
+    void onStateChanged() {
+        mStatusChangeEvents.incrementAndGet();
+        if (mScheduled.compareAndSet(false, true)) {
+            mHandler.postDelayed(this, mWindowMillis);
+        } else {
+            mCoalescedEvents.incrementAndGet();
+        }
+    }
+
+    void cancel() {
+        mHandler.removeCallbacks(this);
+        mScheduled.set(false);
+    }
+
+    @Override
+    public void run() {
+        mScheduled.set(false);
+        mTracer.onDispatch();
+        if (mListener.onDispatch(mState.get()) > 0) {
+            mDispatchedEvents.incrementAndGet();
+        } else {
+            mSuppressedEvents.incrementAndGet();
+        }
+    }
+
+    JSONObject getStats() throws JSONException {
+        JSONObject stats = new JSONObject();
+        stats.put("statusChangeEvents", mStatusChangeEvents.get());
+        stats.put("coalescedEvents", mCoalescedEvents.get());
+        stats.put("dispatchedEvents", mDispatchedEvents.get());
+        stats.put("suppressedEvents", mSuppressedEvents.get());
+        stats.put("coalescingWindow", mWindowMillis);
+        return stats;
+    }
+}
@@ -0,0 +1,106 @@
+/**
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+
+package com.phonegap.plugin.mobileaccessibility;
+
+import android.annotation.TargetApi;
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.os.Build;
+
+/**
+ * Keeps the last known status flags, text zoom and font scale in the shared preferences, so that a
+ * possibly stale status snapshot can be answered at startup before the system services are queried.
+ */
+class StatusSnapshotStore {
+    private static final String PREFERENCES_NAME = "MobileAccessibility";
+    private static final String KEY_FLAGS = "flags";
+    private static final String KEY_TEXT_ZOOM = "textZoom";
+    private static final String KEY_FONT_SCALE = "fontScale";
+
+    private final Context mContext;
+    private SharedPreferences mPreferences;
+
+    StatusSnapshotStore(Context context) {
+        mContext = context;
+    }
+
+    private synchronized SharedPreferences getPreferences() {
+        if (mPreferences == null) {
+            mPreferences = mContext.getSharedPreferences(PREFERENCES_NAME, Context.MODE_PRIVATE);
+        }
+        return mPreferences;
+    }
+
+    boolean hasSnapshot() {
+        return getPreferences().contains(KEY_FLAGS);
+    }
+
+    int getFlags() {
+        return getPreferences().getInt(KEY_FLAGS, 0);
+    }
+
+    int getTextZoom() {
+        return getPreferences().getInt(KEY_TEXT_ZOOM, WebSettingsAccessor.DEFAULT_TEXT_ZOOM);
+    }
+
+    float getFontScale() {
+        return getPreferences().getFloat(KEY_FONT_SCALE, 1);
+    }
+
+    void saveSnapshot(int flags, int textZoom, float fontScale) {
+        SharedPreferences preferences = getPreferences();
+        if (preferences.contains(KEY_FLAGS) && preferences.getInt(KEY_FLAGS, 0) == flags
+                && getTextZoom() == textZoom && getFontScale() == fontScale) {
+            return;
+        }
+        save(preferences.edit()
+                .putInt(KEY_FLAGS, flags)
+                .putInt(KEY_TEXT_ZOOM, textZoom)
+                .putFloat(KEY_FONT_SCALE, fontScale));
+    }
+
+    /* Ignored until a full snapshot has been saved. */
+    void saveFlags(int flags) {
+        SharedPreferences preferences = getPreferences();
+        if (preferences.contains(KEY_FLAGS) && preferences.getInt(KEY_FLAGS, 0) != flags) {
+            save(preferences.edit().putInt(KEY_FLAGS, flags));
+        }
+    }
+
+    /* Ignored until a full snapshot has been saved. */
+    void saveTextZoom(int textZoom) {
+        SharedPreferences preferences = getPreferences();
+        if (preferences.contains(KEY_FLAGS) && getTextZoom() != textZoom) {
+            save(preferences.edit().putInt(KEY_TEXT_ZOOM, textZoom));
+        }
+    }
+
+    /* Writes to disk in the background where supported. */
+    @TargetApi(Build.VERSION_CODES.GINGERBREAD)
+    private static void save(SharedPreferences.Editor editor) {
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.GINGERBREAD) {
+            editor.apply();
+        } else {
+            editor.commit();
+        }
+    }
+}
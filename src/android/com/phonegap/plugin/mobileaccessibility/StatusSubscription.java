@@ -0,0 +1,55 @@
+/**
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+
+package com.phonegap.plugin.mobileaccessibility;
+
+import org.apache.cordova.CallbackContext;
+
+/**
+ * A keep-alive status callback registered by the start action, which is only sent status events when
+ * one of the flags in its mask has changed since the last event it was sent. States older than the last
+ * one it was sent are skipped, so that a status read before a later one was sent cannot overwrite it.
+ */
+final class StatusSubscription {
+    static final int ALL_FLAGS = ~0;
+
+    final String id;
+    final int mask;
+    final CallbackContext callbackContext;
+    /* Guarded by the subscriptions lock of MobileAccessibility. */
+    private long mLastVersion = -1;
+    private int mLastFlags;
+
+    StatusSubscription(String id, int mask, CallbackContext callbackContext) {
+        this.id = id;
+        this.mask = mask == 0 ? ALL_FLAGS : mask;
+        this.callbackContext = callbackContext;
+    }
+
+    boolean isInterestedIn(MobileAccessibilityState state) {
+        return state.version > mLastVersion && ((state.flags ^ mLastFlags) & mask) != 0;
+    }
+
+    void onSent(MobileAccessibilityState state) {
+        mLastVersion = Math.max(mLastVersion, state.version);
+        mLastFlags = state.flags;
+    }
+}
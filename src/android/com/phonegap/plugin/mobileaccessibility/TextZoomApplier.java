@@ -0,0 +1,179 @@
+/**
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+
+package com.phonegap.plugin.mobileaccessibility;
+
+import org.apache.cordova.CallbackContext;
+import org.apache.cordova.PluginResult;
+
+import android.annotation.TargetApi;
+import android.os.Build;
+import android.os.Handler;
+import android.view.Choreographer;
+
+import java.util.ArrayList;
+
+/**
+ * Applies text zoom requests to the WebView at most once per frame. Only the latest pending value is
+ * applied, and every request made since the previous frame is called back with the zoom actually applied.
+ * As every change to the zoom goes through this class, it also keeps the current zoom, which can be read
+ * from any thread.
+ */
+class TextZoomApplier {
+    static final double UNKNOWN_TEXT_ZOOM = -1;
+
+    private final AbstractMobileAccessibilityHelper mMobileAccessibilityHelper;
+    private final StatusSnapshotStore mStatusSnapshotStore;
+    private final Handler mHandler;
+    private final EventJournal mJournal;
+    private final Runnable mSchedule;
+    private final Runnable mApply = new Runnable() {
+        public void run() {
+            apply();
+        }
+    };
+
+    private double mPendingTextZoom;
+    private boolean mScheduled = false;
+    private ArrayList<CallbackContext> mPendingCallbacks = new ArrayList<CallbackContext>();
+    /* Only used on the UI thread, swapped with the pending callbacks on every frame. */
+    private ArrayList<CallbackContext> mApplyingCallbacks = new ArrayList<CallbackContext>();
+    private volatile double mTextZoom = UNKNOWN_TEXT_ZOOM;
+    private volatile boolean mVerify = false;
+    private final Runnable mVerifyTextZoom = new Runnable() {
+        public void run() {
+            readTextZoom();
+        }
+    };
+
+    /* The store is null for the WebViews other than the one of the plugin, whose zoom is not saved. */
+    TextZoomApplier(AbstractMobileAccessibilityHelper helper, StatusSnapshotStore statusSnapshotStore, Handler handler,
+            EventJournal journal) {
+        mMobileAccessibilityHelper = helper;
+        mStatusSnapshotStore = statusSnapshotStore;
+        mHandler = handler;
+        mJournal = journal;
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN) {
+            mSchedule = new FrameCallback();
+        } else {
+            mSchedule = mApply;
+        }
+    }
+
+    /* When enabled, every read of the cached zoom is followed by a check of the WebView, which updates the cache. */
+    void setVerify(boolean verify) {
+        mVerify = verify;
+    }
+
+    /**
+     * Called from any thread. Answers from the cached zoom, and only waits for the UI thread the first
+     * time, to read it from the WebView.
+     */
+    void getTextZoom(final CallbackContext callbackContext) {
+        double textZoom = mTextZoom;
+        if (textZoom == UNKNOWN_TEXT_ZOOM) {
+            mHandler.post(new Runnable() {
+                public void run() {
+                    callbackContext.success((int) getTextZoom());
+                }
+            });
+            return;
+        }
+        callbackContext.success((int) textZoom);
+        if (mVerify) {
+            mHandler.removeCallbacks(mVerifyTextZoom);
+            mHandler.post(mVerifyTextZoom);
+        }
+    }
+
+    /* Called from any thread. Returns UNKNOWN_TEXT_ZOOM until the zoom has been read from the WebView. */
+    double getCachedTextZoom() {
+        return mTextZoom;
+    }
+
+    /* Called on the UI thread. */
+    double getTextZoom() {
+        double textZoom = mTextZoom;
+        return textZoom == UNKNOWN_TEXT_ZOOM ? readTextZoom() : textZoom;
+    }
+
+    /* Called on the UI thread. */
+    private double readTextZoom() {
+        double textZoom = mMobileAccessibilityHelper.getTextZoom();
+        mTextZoom = textZoom;
+        return textZoom;
+    }
+
+    /* Called from any thread. The callback context may be null. */
+    void request(double textZoom, CallbackContext callbackContext) {
+        synchronized (this) {
+            mPendingTextZoom = textZoom;
+            if (callbackContext != null) {
+                mPendingCallbacks.add(callbackContext);
+            }
+            if (mScheduled) {
+                return;
+            }
+            mScheduled = true;
+        }
+        mHandler.post(mSchedule);
+    }
+
+    /* Runs on the UI thread. */
+    private void apply() {
+        double textZoom;
+        ArrayList<CallbackContext> callbacks;
+        synchronized (this) {
+            textZoom = mPendingTextZoom;
+            callbacks = mPendingCallbacks;
+            mPendingCallbacks = mApplyingCallbacks;
+            mApplyingCallbacks = callbacks;
+            mScheduled = false;
+        }
+        if (getTextZoom() != textZoom) {
+            mMobileAccessibilityHelper.setTextZoom(textZoom);
+            textZoom = readTextZoom();
+            mJournal.record(EventJournal.TYPE_TEXT_ZOOM, (int) textZoom, 0);
+            if (mStatusSnapshotStore != null) {
+                mStatusSnapshotStore.saveTextZoom((int) textZoom);
+            }
+        }
+        if (!callbacks.isEmpty()) {
+            PluginResult result = new PluginResult(PluginResult.Status.OK, (int) textZoom);
+            for (int i = 0; i < callbacks.size(); i++) {
+                callbacks.get(i).sendPluginResult(result);
+            }
+            callbacks.clear();
+        }
+    }
+
+    /* Defers the zoom to the next frame, posted from the UI thread which owns the Choreographer. */
+    @TargetApi(Build.VERSION_CODES.JELLY_BEAN)
+    private class FrameCallback implements Runnable, Choreographer.FrameCallback {
+        public void run() {
+            Choreographer.getInstance().postFrameCallback(this);
+        }
+
+        public void doFrame(long frameTimeNanos) {
+            apply();
+        }
+    }
+}
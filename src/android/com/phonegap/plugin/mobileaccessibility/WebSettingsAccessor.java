@@ -0,0 +1,204 @@
+/**
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+*/
+
+package com.phonegap.plugin.mobileaccessibility;
+
+import android.annotation.TargetApi;
+import android.os.Build;
+import android.view.View;
+import android.webkit.WebSettings;
+import android.webkit.WebView;
+
+import java.lang.IllegalAccessException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * Reads and writes the text size settings of the view rendering the Cordova application.
+ * Instances are resolved once per view, so text zoom changes do not repeat reflective lookups.
+ */
+abstract class WebSettingsAccessor {
+    static final int DEFAULT_TEXT_ZOOM = 100;
+
+    static WebSettingsAccessor forView(View view) {
+        if (view instanceof WebView) {
+            return new WebViewSettingsAccessor((WebView) view);
+        }
+        return new ReflectiveSettingsAccessor(view);
+    }
+
+    public abstract int getTextZoom();
+    public abstract void setTextZoom(int textZoom);
+    public abstract WebSettings.TextSize getTextSize();
+    public abstract void setTextSize(WebSettings.TextSize textSize);
+
+    /**
+     * Direct access for android.webkit.WebView, including the SystemWebView used by cordova-android 4.0+.
+     */
+    private static class WebViewSettingsAccessor extends WebSettingsAccessor {
+        private final WebView mWebView;
+
+        WebViewSettingsAccessor(WebView webView) {
+            mWebView = webView;
+        }
+
+        @TargetApi(Build.VERSION_CODES.ICE_CREAM_SANDWICH)
+        @Override
+        public int getTextZoom() {
+            return mWebView.getSettings().getTextZoom();
+        }
+
+        @TargetApi(Build.VERSION_CODES.ICE_CREAM_SANDWICH)
+        @Override
+        public void setTextZoom(int textZoom) {
+            mWebView.getSettings().setTextZoom(textZoom);
+        }
+
+        @SuppressWarnings("deprecation")
+        @Override
+        public WebSettings.TextSize getTextSize() {
+            return mWebView.getSettings().getTextSize();
+        }
+
+        @SuppressWarnings("deprecation")
+        @Override
+        public void setTextSize(WebSettings.TextSize textSize) {
+            mWebView.getSettings().setTextSize(textSize);
+        }
+    }
+
+    /**
+     * Reflective access for other engines, such as Crosswalk, which expose a getSettings method
+     * returning an object with the same text size methods as android.webkit.WebSettings.
+     * Method handles are looked up on first use and cached.
+     */
+    private static class ReflectiveSettingsAccessor extends WebSettingsAccessor {
+        private final View mView;
+        private Method mGetSettings;
+        private Object mSettings;
+        private Method mGetTextZoom;
+        private Method mSetTextZoom;
+        private Method mGetTextSize;
+        private Method mSetTextSize;
+
+        ReflectiveSettingsAccessor(View view) {
+            mView = view;
+            if (view != null) {
+                try {
+                    mGetSettings = view.getClass().getMethod("getSettings");
+                } catch (NoSuchMethodException e) {
+                    e.printStackTrace();
+                }
+            }
+        }
+
+        private Object getSettings() throws InvocationTargetException, IllegalAccessException {
+            if (mSettings == null && mGetSettings != null) {
+                mSettings = mGetSettings.invoke(mView);
+            }
+            return mSettings;
+        }
+
+        @Override
+        public int getTextZoom() {
+            try {
+                Object settings = getSettings();
+                if (settings != null) {
+                    if (mGetTextZoom == null) {
+                        mGetTextZoom = settings.getClass().getMethod("getTextZoom");
+                    }
+                    return ((Number) mGetTextZoom.invoke(settings)).intValue();
+                }
+            } catch (ClassCastException ce) {
+                ce.printStackTrace();
+            } catch (NoSuchMethodException e) {
+                e.printStackTrace();
+            } catch (InvocationTargetException e) {
+                e.printStackTrace();
+            } catch (IllegalAccessException e) {
+                e.printStackTrace();
+            }
+            return DEFAULT_TEXT_ZOOM;
+        }
+
+        @Override
+        public void setTextZoom(int textZoom) {
+            try {
+                Object settings = getSettings();
+                if (settings != null) {
+                    if (mSetTextZoom == null) {
+                        mSetTextZoom = settings.getClass().getMethod("setTextZoom", Integer.TYPE);
+                    }
+                    mSetTextZoom.invoke(settings, textZoom);
+                }
+            } catch (NoSuchMethodException e) {
+                e.printStackTrace();
+            } catch (InvocationTargetException e) {
+                e.printStackTrace();
+            } catch (IllegalAccessException e) {
+                e.printStackTrace();
+            }
+        }
+
+        @SuppressWarnings("deprecation")
+        @Override
+        public WebSettings.TextSize getTextSize() {
+            try {
+                Object settings = getSettings();
+                if (settings != null) {
+                    if (mGetTextSize == null) {
+                        mGetTextSize = settings.getClass().getMethod("getTextSize");
+                    }
+                    return (WebSettings.TextSize) mGetTextSize.invoke(settings);
+                }
+            } catch (ClassCastException ce) {
+                ce.printStackTrace();
+            } catch (NoSuchMethodException e) {
+                e.printStackTrace();
+            } catch (InvocationTargetException e) {
+                e.printStackTrace();
+            } catch (IllegalAccessException e) {
+                e.printStackTrace();
+            }
+            return WebSettings.TextSize.NORMAL;
+        }
+
+        @SuppressWarnings("deprecation")
+        @Override
+        public void setTextSize(WebSettings.TextSize textSize) {
+            try {
+                Object settings = getSettings();
+                if (settings != null) {
+                    if (mSetTextSize == null) {
+                        mSetTextSize = settings.getClass().getMethod("setTextSize", WebSettings.TextSize.class);
+                    }
+                    mSetTextSize.invoke(settings, textSize);
+                }
+            } catch (NoSuchMethodException e) {
+                e.printStackTrace();
+            } catch (InvocationTargetException e) {
+                e.printStackTrace();
+            } catch (IllegalAccessException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+}
@@ -38,6 +38,7 @@ module.exports = {
     SPEAK_SCREEN_STATUS_CHANGED : "speakscreenstatuschanged",
     SPEAK_SELECTION_STATUS_CHANGED : "speakselectionstatuschanged",
     SWITCH_CONTROL_STATUS_CHANGED : "switchcontrolstatuschanged",
+    TEXT_ZOOM_CHANGED : "textzoomchanged",
 
     /* iOS specific UIAccessibilityNotifications  */
     SCREEN_CHANGED : 1000,
@@ -69,6 +69,54 @@ var MobileAccessibility = function() {
     }
 };
 
+/**
+ * Bits of the compact status sent by native MobileAccessibility on Android.
+ * Must match the flags defined in MobileAccessibilityState.java.
+ * @private
+ * @ignore
+ */
+var STATUS_FLAGS = {
+    isScreenReaderRunning: 1,
+    isClosedCaptioningEnabled: 1 << 1,
+    isTouchExplorationEnabled: 1 << 2,
+    isHighContrastEnabled: 1 << 3,
+    isReduceMotionEnabled: 1 << 4,
+    isInvertColorsEnabled: 1 << 5,
+    isGrayscaleEnabled: 1 << 6,
+    isBoldTextEnabled: 1 << 7
+};
+
+/**
+ * Expands a compact numeric status into a status object. Status objects are returned unchanged.
+ * @private
+ * @ignore
+ */
+function decodeStatus(info) {
+    if (typeof info !== "number") {
+        return info;
+    }
+    var status = {};
+    for (var key in STATUS_FLAGS) {
+        status[key] = (info & STATUS_FLAGS[key]) !== 0;
+    }
+    return status;
+}
+
+/**
+ * Id of the native subscription which fires the status changed window events.
+ * @private
+ * @ignore
+ */
+var STATUS_SUBSCRIPTION_ID = "status";
+
+/**
+ * Callbacks of the subscriptions created with subscribe, by subscription id.
+ * @private
+ * @ignore
+ */
+var subscriptions = {};
+var subscriptionCount = 0;
+
 /**
  * @private
  * @ignore
@@ -102,9 +150,9 @@ function handlers() {
 MobileAccessibility.onHasSubscribersChange = function() {
     // If we just registered the first handler, make sure native listener is started.
     if (this.numHandlers === 1 && handlers() === 1) {
-        exec(mobileAccessibility._status, mobileAccessibility._error, "MobileAccessibility", "start", []);
+        exec(mobileAccessibility._status, mobileAccessibility._error, "MobileAccessibility", "start", [STATUS_SUBSCRIPTION_ID]);
     } else if (handlers() === 0) {
-        exec(null, null, "MobileAccessibility", "stop", []);
+        exec(null, null, "MobileAccessibility", "stop", [STATUS_SUBSCRIPTION_ID]);
     }
 };
 
@@ -164,19 +212,42 @@ MobileAccessibility.prototype.activateOrDeactivateChromeVox = function(bool) {
     }
 };
 
+/**
+ * Called by native code when a screen reader was turned on while the app was paused, with the "incremental"
+ * screenReaderActivation option. The WebView only injects ChromeVox when a page loads, so the local copy of
+ * AndroidVox is injected whatever the connectivity.
+ * @private
+ * @ignore
+ */
+MobileAccessibility.prototype._activateScreenReaderInPlace = function() {
+    if (typeof cvox === "undefined") {
+        mobileAccessibility.injectLocalAndroidVoxScript();
+    }
+    mobileAccessibility.activateOrDeactivateChromeVox(true);
+};
+
 MobileAccessibility.prototype.hasOrientationChangeListener = false;
 MobileAccessibility.prototype.onOrientationChange = function(event) {
     if (!mobileAccessibility.isChromeVoxActive()) return;
     cvox.ChromeVox.navigationManager.updateIndicator();
 };
 
+/**
+ * Id of the script element for the local copy of AndroidVox, so it is never injected twice into a page.
+ * @private
+ * @ignore
+ */
+var ANDROID_VOX_SCRIPT_ID = "mobile-accessibility-androidvox";
+
 MobileAccessibility.prototype.scriptInjected = false;
 MobileAccessibility.prototype.injectLocalAndroidVoxScript = function() {
     var versionsplit = device.version.split('.');
     if (device.platform !== "Android" ||
         !(versionsplit[0] > 4 || (versionsplit[0] == 4 && versionsplit[1] >= 1))  ||
-        typeof cvox !== "undefined" || mobileAccessibility.scriptInjected) return;
+        typeof cvox !== "undefined" || mobileAccessibility.scriptInjected ||
+        document.getElementById(ANDROID_VOX_SCRIPT_ID)) return;
     var script = document.createElement('script');
+    script.id = ANDROID_VOX_SCRIPT_ID;
     script.type = 'text/javascript';
     script.async = true;
     script.onload = function(){
@@ -188,9 +259,9 @@ MobileAccessibility.prototype.injectLocalAndroidVoxScript = function() {
         }
     };
 
-    script.src = (versionsplit[0] > 4 || versionsplit[1] > 3)
-        ? "plugins/com.phonegap.plugin.mobile-accessibility/android/chromeandroidvox.js"
-        : "plugins/com.phonegap.plugin.mobile-accessibility/android/AndroidVox_v1.js";
+    // AndroidVox_v1.js and chromeandroidvox.js are published as identical files, so a single copy is bundled
+    // and loaded from one URL on every version of Android, which lets the WebView cache it across page loads.
+    script.src = "plugins/com.phonegap.plugin.mobile-accessibility/android/AndroidVox_v1.js";
     document.getElementsByTagName('head')[0].appendChild(script);
     mobileAccessibility.scriptInjected = true;
 };
@@ -300,28 +371,133 @@ MobileAccessibility.prototype.isTouchExplorationEnabled = function(callback) {
 };
 
 /**
- * Asynchronous call to native MobileAccessibility to determine if High Contrast is enabled on Windows.
+ * Asynchronous call to native MobileAccessibility to determine if High Contrast is enabled on Windows, or high contrast text on Android.
  * @param {function} callback A callback method to receive the asynchronous result from the native MobileAccessibility.
  */
 MobileAccessibility.prototype.isHighContrastEnabled = function(callback) {
     exec(callback, null, "MobileAccessibility", "isHighContrastEnabled", []);
 };
 
+/**
+ * Feedback types of accessibility services on Android, as defined by AccessibilityServiceInfo.
+ * @private
+ * @ignore
+ */
+var SERVICE_FEEDBACK_TYPES = {
+    spoken: 1,
+    haptic: 1 << 1,
+    audible: 1 << 2,
+    visual: 1 << 3,
+    generic: 1 << 4,
+    braille: 1 << 5
+};
+
+/**
+ * Asynchronous call to native MobileAccessibility to list the enabled accessibility services on Android.
+ * @param {function} callback A callback method to receive the asynchronous result from the native MobileAccessibility,
+ * the function should expect an array of objects containing the id, packageName, feedbackType and feedback of each service.
+ */
+MobileAccessibility.prototype.getEnabledServices = function(callback) {
+    exec(callback, null, "MobileAccessibility", "getEnabledServices", []);
+};
+
+/**
+ * Asynchronous call to native MobileAccessibility to determine if a package has an enabled accessibility service on Android.
+ * @param {String} packageName The package of the service, such as "com.google.android.marvin.talkback".
+ * @param {function} callback A callback method to receive the asynchronous result from the native MobileAccessibility.
+ * @param {Array} [feedback] Only count services which give one of these feedback types, such as "spoken" or "braille".
+ */
+MobileAccessibility.prototype.isServiceEnabled = function(packageName, callback, feedback) {
+    var feedbackTypes = 0;
+    if (feedback) {
+        for (var i = 0; i < feedback.length; i++) {
+            feedbackTypes |= SERVICE_FEEDBACK_TYPES[feedback[i]] || 0;
+        }
+    }
+    exec(callback, null, "MobileAccessibility", "isServiceEnabled", [packageName, feedbackTypes]);
+};
+
+/**
+ * Asynchronous call to native MobileAccessibility to retrieve the status of the accessibility features,
+ * the current text zoom percent value and the system font scale in a single call.
+ * @param {function} callback A callback method to receive the asynchronous result from the native MobileAccessibility,
+ * the function should expect an object containing isScreenReaderRunning, isClosedCaptioningEnabled,
+ * isTouchExplorationEnabled, textZoom and fontScale.
+ * @param {Object} [options] Options for the call.
+ * @config {Boolean} [allowStale] true to first receive the last known status, with isStale set to true, and a second
+ * call with the current status only if it differs (android).
+ */
+MobileAccessibility.prototype.getStatusSnapshot = function(callback, options) {
+    exec(function(info) {
+        // The saved snapshot may describe the last session, so only the current one activates ChromeVox.
+        if (!info.isStale) {
+            mobileAccessibility.activateOrDeactivateChromeVox(info.isScreenReaderRunning);
+        }
+        callback(info);
+    }, null, "MobileAccessibility", "getStatusSnapshot", [Boolean(options && options.allowStale)]);
+};
+
+/**
+ * Subscribes to changes of the status of some accessibility features, independently of the status changed window events.
+ * Native code only notifies the subscription when one of the features it asked for has changed.
+ * @param {Array} [features] Names of the status properties to watch, such as "isClosedCaptioningEnabled". All of them when omitted.
+ * @param {function} callback A callback method to receive the current status object, then the status object each time
+ * one of the features changes.
+ * @returns {String} An id to pass to unsubscribe, or null on platforms other than Android and Amazon Fire OS.
+ */
+MobileAccessibility.prototype.subscribe = function(features, callback) {
+    // iOS keeps a single status callback, which a subscription would replace.
+    if (device.platform !== "Android" && device.platform.toLowerCase() !== "amazon-fireos") {
+        return null;
+    }
+    if (typeof features === "function") {
+        callback = features;
+        features = null;
+    }
+    var mask = 0;
+    if (features) {
+        for (var i = 0; i < features.length; i++) {
+            mask |= STATUS_FLAGS[features[i]] || 0;
+        }
+    }
+    var id = "subscription" + (++subscriptionCount);
+    subscriptions[id] = callback;
+    exec(function(info) {
+        if (subscriptions[id]) {
+            subscriptions[id](decodeStatus(info));
+        }
+    }, mobileAccessibility._error, "MobileAccessibility", "start", [id, mask]);
+    return id;
+};
+
+/**
+ * Cancels a subscription created with subscribe.
+ * @param {String} id The id returned by subscribe.
+ */
+MobileAccessibility.prototype.unsubscribe = function(id) {
+    if (subscriptions[id]) {
+        delete subscriptions[id];
+        exec(null, null, "MobileAccessibility", "stop", [id]);
+    }
+};
+
 /**
  * Asynchronous call to native MobileAccessibility to return the current text zoom percent value for the WebView.
  * @param {function} callback A callback method to receive the asynchronous result from the native MobileAccessibility.
+ * @param {String} [webViewId] The id of another registered WebView, as listed by getWebViews (android).
  */
-MobileAccessibility.prototype.getTextZoom = function(callback) {
-    exec(callback, null, "MobileAccessibility", "getTextZoom", []);
+MobileAccessibility.prototype.getTextZoom = function(callback, webViewId) {
+    exec(callback, null, "MobileAccessibility", "getTextZoom", webViewId ? [webViewId] : []);
 };
 
 /**
  * Asynchronous call to native MobileAccessibility to set the current text zoom percent value for the WebView.
  * @param {Number} textZoom A percentage value by which text in the WebView should be scaled.
  * @param {function} callback A callback method to receive the asynchronous result from the native MobileAccessibility.
+ * @param {String} [webViewId] The id of another registered WebView, as listed by getWebViews (android).
  */
-MobileAccessibility.prototype.setTextZoom = function(textZoom, callback) {
-    exec(callback, null, "MobileAccessibility", "setTextZoom", [textZoom]);
+MobileAccessibility.prototype.setTextZoom = function(textZoom, callback, webViewId) {
+    exec(callback, null, "MobileAccessibility", "setTextZoom", webViewId ? [textZoom, webViewId] : [textZoom]);
 };
 
 /**
@@ -343,6 +519,16 @@ MobileAccessibility.prototype.usePreferredTextZoom = function(bool) {
         window.localStorage.setItem("MobileAccessibility.usePreferredTextZoom", bool);
     }
 
+    if (device.platform === "Android" || device.platform.toLowerCase() === "amazon-fireos") {
+        // Native code applies the preferred text zoom itself whenever the system font scale changes.
+        exec(function(info) {
+            if (info) {
+                cordova.fireWindowEvent(MobileAccessibilityNotifications.TEXT_ZOOM_CHANGED, info);
+            }
+        }, null, "MobileAccessibility", "usePreferredTextZoom", [Boolean(bool)]);
+        return Boolean(bool);
+    }
+
     var callback = function(){
         // Wrapping updateTextZoom call in a function to stop
         // the event parameter propagation. This fixes an error
@@ -373,20 +559,35 @@ MobileAccessibility.prototype.MobileAccessibilityNotifications = MobileAccessibi
  * @param {function} callback A callback method to receive the asynchronous result from the native MobileAccessibility, when the announcement is finished, the function should expect an object containing the stringValue that was voiced and a boolean indicating that the announcement wasSuccessful.
  */
 MobileAccessibility.prototype.postNotification = function(mobileAccessibilityNotification, string, callback) {
-    exec(callback, null, "MobileAccessibility", "postNotification", [mobileAccessibilityNotification, string]);
+    exec(function(info) {
+        if (typeof info === "boolean") {
+            // Android sends only whether the announcement was successful unless the JSON status format is configured.
+            info = { stringValue: string, wasSuccessful: info };
+        }
+        if (callback) {
+            callback(info);
+        }
+    }, null, "MobileAccessibility", "postNotification", [mobileAccessibilityNotification, string]);
 };
 
 /**
  * Speaks the given string, and if ChromeVox is active, it will use the specified queueMode and properties.
+ * Otherwise, on Android, the queueMode and the priority property are applied by the native announcement queue.
  * @param {string} string A string to be announced by a screen reader.
  * @param {number} [queueMode] Optional number. Valid modes are 0 for flush; 1 for queue.
  * @param {Object} [properties] Speech properties to use for this utterance.
+ * @config {Number} [priority] Announcements with a higher priority are spoken first (android).
+ * @config {String} [webViewId] The id of another registered WebView to send the announcement from, as listed by getWebViews (android).
  */
 MobileAccessibility.prototype.speak = function(string, queueMode, properties) {
     if (this.isChromeVoxActive()) {
         cvox.ChromeVox.tts.speak(string, queueMode, properties);
     } else {
-        exec(null, null, "MobileAccessibility", "postNotification", [MobileAccessibilityNotifications.ANNOUNCEMENT, string]);
+        var args = [MobileAccessibilityNotifications.ANNOUNCEMENT, string, queueMode, properties && properties.priority];
+        if (properties && properties.webViewId) {
+            args.push(properties.webViewId);
+        }
+        exec(null, null, "MobileAccessibility", "postNotification", args);
     }
 }
 
@@ -397,22 +598,114 @@ MobileAccessibility.prototype.stop = function() {
     if (this.isChromeVoxActive()) {
         cvox.ChromeVox.tts.stop();
     } else {
-        exec(null, null, "MobileAccessibility", "postNotification", [MobileAccessibilityNotifications.ANNOUNCEMENT, "\u200b"]);
+        exec(null, null, "MobileAccessibility", "postNotification", [MobileAccessibilityNotifications.ANNOUNCEMENT, "\u200b", 0]);
     }
 }
 
+/**
+ * Asynchronous call to native MobileAccessibility to configure the behavior of the plugin.
+ * @param {Object} options Configuration options.
+ * @config {String} [statusFormat] "json" to receive status events and announcement results from native code as JSON objects
+ * instead of the compact default encoding (android).
+ * @config {Number} [statusCoalescingWindow] Time in milliseconds during which status changes are merged into a single status event (android).
+ * @config {Number} [announcementQueueDepth] Maximum number of announcements waiting to be spoken (android).
+ * @config {String} [announcementOverflowPolicy] "dropOldest" or "merge", applied when the announcement queue is full (android).
+ * @config {Number} [announcementCharacterDuration] Estimated time in milliseconds the screen reader takes to speak one character (android).
+ * @config {Number} [announcementMinimumInterval] Minimum time in milliseconds between two announcements (android).
+ * @config {Number} [announcementMaxLength] Maximum number of characters of an announcement, 0 for no limit (android).
+ * @config {Boolean} [verifyTextZoom] true to check the WebView after each read of the cached text zoom (android).
+ * @config {String} [screenReaderActivation] "reload", the default, to reload the page or "incremental" to update it
+ * in place when a screen reader is turned on while the app is paused (android).
+ * @config {Boolean} [suspendListenersWhilePaused] false to keep receiving status changes while the app is paused (android).
+ * @config {Boolean} [tracing] true to time each hop of status events and requests, as returned by getTraces (android).
+ * @config {String} [webViewId] The id under which other WebViews can target this one (android).
+ * @param {function} [callback] A callback method to be called once the options have been applied.
+ */
+MobileAccessibility.prototype.configure = function(options, callback) {
+    exec(callback, null, "MobileAccessibility", "configure", [options || {}]);
+};
+
+/**
+ * Asynchronous call to native MobileAccessibility to list the WebViews of the app which can be targeted by
+ * getTextZoom, setTextZoom and speak.
+ * @param {function} callback A callback method to receive the asynchronous result from the native MobileAccessibility,
+ * the function should expect an object containing webViewId, the id of this WebView, and webViews, the ids of every WebView.
+ */
+MobileAccessibility.prototype.getWebViews = function(callback) {
+    exec(callback, null, "MobileAccessibility", "getWebViews", []);
+};
+
+/**
+ * Asynchronous call to native MobileAccessibility to retrieve counts of the status change events received and sent to JavaScript.
+ * @param {function} callback A callback method to receive the asynchronous result from the native MobileAccessibility,
+ * the function should expect an object containing statusChangeEvents, coalescedEvents, dispatchedEvents,
+ * suppressedEvents and coalescingWindow.
+ */
+MobileAccessibility.prototype.getStatusEventStats = function(callback) {
+    exec(callback, null, "MobileAccessibility", "getStatusEventStats", []);
+};
+
+/**
+ * Asynchronous call to native MobileAccessibility to retrieve latency histograms, in microseconds, of the plugin's native code.
+ * @param {function} callback A callback method to receive the asynchronous result from the native MobileAccessibility,
+ * the function should expect an object containing actions, callbacks, announcements and statusEvents.
+ */
+MobileAccessibility.prototype.getMetrics = function(callback) {
+    exec(callback, null, "MobileAccessibility", "getMetrics", []);
+};
+
+/**
+ * Asynchronous call to native MobileAccessibility to clear the latency histograms returned by getMetrics.
+ * @param {function} [callback] A callback method to be called once the histograms have been cleared.
+ */
+MobileAccessibility.prototype.resetMetrics = function(callback) {
+    exec(callback, null, "MobileAccessibility", "resetMetrics", []);
+};
+
+/**
+ * Asynchronous call to native MobileAccessibility to retrieve the timings of the hops taken by status events and requests,
+ * recorded while the tracing option of configure is enabled.
+ * @param {function} callback A callback method to receive the asynchronous result from the native MobileAccessibility,
+ * the function should expect an object containing enabled, statusEvents, recentStatusEvents and recentRequests.
+ */
+MobileAccessibility.prototype.getTraces = function(callback) {
+    exec(callback, null, "MobileAccessibility", "getTraces", []);
+};
+
+/**
+ * Asynchronous call to native MobileAccessibility to resolve the system services it uses on a background thread,
+ * ahead of their first use. Call it once the first screen has been displayed.
+ * @param {function} [callback] A callback method to be called once the plugin is prewarmed.
+ */
+MobileAccessibility.prototype.prewarm = function(callback) {
+    exec(callback, null, "MobileAccessibility", "prewarm", []);
+};
+
+/**
+ * Asynchronous call to native MobileAccessibility to write its journal of recent events to a file on Android.
+ * @param {String} [format] "ndjson" for one JSON object per line, or "binary" for a compact binary file. Defaults to "ndjson".
+ * @param {function} callback A callback method to receive the asynchronous result from the native MobileAccessibility,
+ * the function should expect an object containing the path and format of the file, the number of events written,
+ * and the number of older events which were overwritten.
+ * @param {function} [errorCallback] A callback method to receive the error when the file cannot be written.
+ */
+MobileAccessibility.prototype.exportJournal = function(format, callback, errorCallback) {
+    exec(callback, errorCallback, "MobileAccessibility", "exportJournal", format ? [format] : []);
+};
+
 /**
  * Callback from native MobileAccessibility returning an object which describes the status of MobileAccessibility features.
  *
- * @param {Object} info
- * @config {Boolean} [isBoldTextEnabled] Boolean to indicate bold text status (ios).
+ * @param {Object|Number} info The status object, or on Android a number encoding the status as bits of STATUS_FLAGS.
+ * @config {Boolean} [isBoldTextEnabled] Boolean to indicate bold text status (ios, android).
  * @config {Boolean} [isClosedCaptioningEnabled] Boolean to indicate closed captioning status.
  * @config {Boolean} [isDarkerSystemColorsEnabled] Boolean to indicate darker system colors status (ios).
- * @config {Boolean} [isGrayscaleEnabled] Boolean to indicate grayscale status (ios).
+ * @config {Boolean} [isGrayscaleEnabled] Boolean to indicate grayscale status (ios, android).
  * @config {Boolean} [isGuidedAccessEnabled] Boolean to indicate guided access status (ios).
- * @config {Boolean} [isInvertColorsEnabled] Boolean to indicate invert colors status (ios).
+ * @config {Boolean} [isHighContrastEnabled] Boolean to indicate high contrast status (windows, android).
+ * @config {Boolean} [isInvertColorsEnabled] Boolean to indicate invert colors status (ios, android).
  * @config {Boolean} [isMonoAudioEnabled] Boolean to indicate mono audio status (ios).
- * @config {Boolean} [isReduceMotionEnabled] Boolean to indicate reduce motion status (ios).
+ * @config {Boolean} [isReduceMotionEnabled] Boolean to indicate reduce motion status (ios, android).
  * @config {Boolean} [isReduceTransparencyEnabled] Boolean to indicate reduce transparency status (ios).
  * @config {Boolean} [isScreenReaderRunning] Boolean to indicate screen reader status.
  * @config {Boolean} [isSpeakScreenEnabled] Boolean to indicate speak screen status (ios).
@@ -421,6 +714,7 @@ MobileAccessibility.prototype.stop = function() {
  * @config {Boolean} [isTouchExplorationEnabled] Boolean to indicate touch exploration status (android).
  */
 MobileAccessibility.prototype._status = function(info) {
+    info = decodeStatus(info);
     if (info) {
         mobileAccessibility.activateOrDeactivateChromeVox(info.isScreenReaderRunning);
         if (mobileAccessibility._isBoldTextEnabled !== info.isBoldTextEnabled) {